@@ -0,0 +1,382 @@
+package com.TaskReminder.app.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip and per-representation ETags for /api responses.
+ *
+ * Tomcat's own compression skips every response with a strong ETag, which after
+ * conditional GETs is every task list. This filter compresses bodies of at least
+ * app.api.compression.min-response-size and, like Apache's mod_deflate, gives each
+ * representation its own strong tag: "tasks-7" becomes "tasks-7-cbor-gzip".
+ * Only the suffix of the format content negotiation will pick for this request
+ * (and -gzip, when accepted) is stripped from If-None-Match, so the controllers
+ * keep comparing plain version tags and a tag held for another format never
+ * matches. A 304 carries the same suffixed tag and Vary as the 200 it revalidates.
+ * Brotli is not offered: the JDK has no encoder.
+ */
+@Component
+public class ApiEncodingFilter extends OncePerRequestFilter {
+
+    private static final Map<MediaType, String> FORMAT_SUFFIXES = Map.of(
+            MediaType.APPLICATION_CBOR, "-cbor",
+            new MediaType("application", "x-jackson-smile"), "-smile");
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    @Value("${app.api.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${app.api.compression.min-response-size:2KB}")
+    private DataSize minResponseSize;
+
+    @Value("${app.api.compression.mime-types:application/json,application/cbor,application/x-jackson-smile,application/x-ndjson,text/csv}")
+    private List<MediaType> compressibleTypes;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    // Streaming bodies (export) finish on the async dispatch
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        EncodingResponse encoding = WebUtils.getNativeResponse(response, EncodingResponse.class);
+        if (encoding == null) {
+            boolean gzip = compressionEnabled && acceptsGzip(request);
+            String format = negotiatedFormatSuffix(request);
+            encoding = new EncodingResponse(response, gzip, format, request.getHeader(HttpHeaders.IF_NONE_MATCH));
+            request = new TagStrippingRequest(request, gzip, format);
+            response = encoding;
+        }
+        chain.doFilter(request, response);
+        if (!isAsyncStarted(request)) {
+            encoding.finish();
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values.hasMoreElements()) {
+            for (String coding : values.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")
+                        && !(parts.length > 1 && parts[1].replace(" ", "").equals("q=0"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Suffix of the format the response will be written in: the most preferred
+     * Accept type that can be produced, JSON (no suffix) winning for wildcards
+     * as the first registered converter
+     */
+    private static String negotiatedFormatSuffix(HttpServletRequest request) {
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT)));
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            for (Map.Entry<MediaType, String> format : FORMAT_SUFFIXES.entrySet()) {
+                if (type.isCompatibleWith(format.getKey())) {
+                    return format.getValue();
+                }
+            }
+        }
+        return "";
+    }
+
+    // ==================== REQUEST: If-None-Match ====================
+
+    // "tasks-7-cbor-gzip" -> "tasks-7" when the response will be CBOR and gzip is accepted
+    private static final class TagStrippingRequest extends HttpServletRequestWrapper {
+
+        private final Pattern suffixes;
+
+        TagStrippingRequest(HttpServletRequest request, boolean gzip, String format) {
+            super(request);
+            String pattern = (format.isEmpty() ? "" : Pattern.quote(format)) + (gzip ? "(" + GZIP_SUFFIX + ")?" : "");
+            this.suffixes = pattern.isEmpty() ? null : Pattern.compile(pattern + "\"");
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return isIfNoneMatch(name) ? strip(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!isIfNoneMatch(name)) {
+                return super.getHeaders(name);
+            }
+            return Collections.enumeration(Collections.list(super.getHeaders(name)).stream()
+                    .map(this::strip)
+                    .collect(Collectors.toList()));
+        }
+
+        private boolean isIfNoneMatch(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name);
+        }
+
+        private String strip(String value) {
+            return value == null || suffixes == null ? value : suffixes.matcher(value).replaceAll("\"");
+        }
+    }
+
+    // ==================== RESPONSE: buffer, then identity or gzip ====================
+
+    /**
+     * Holds the body until it reaches the threshold (or ends), then fixes the headers
+     * and streams it as is or through gzip
+     */
+    private final class EncodingResponse extends HttpServletResponseWrapper {
+
+        private final boolean gzipAccepted;
+        private final String negotiatedFormat;
+        private final String ifNoneMatch;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private OutputStream target;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        EncodingResponse(HttpServletResponse response, boolean gzipAccepted, String negotiatedFormat, String ifNoneMatch) {
+            super(response);
+            this.gzipAccepted = gzipAccepted;
+            this.negotiatedFormat = negotiatedFormat;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        // Length is only known once the encoding is decided
+        @Override
+        public void setContentLength(int len) {}
+
+        @Override
+        public void setContentLengthLong(long len) {}
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new EncodingOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                Charset charset = Charset.forName(getCharacterEncoding());
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+            }
+            return writer;
+        }
+
+        // Flushing before the decision would commit headers too early
+        @Override
+        public void flushBuffer() throws IOException {
+            if (target != null) {
+                target.flush();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            pending.reset();
+            super.resetBuffer();
+        }
+
+        void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && pending.size() + length < minResponseSize.toBytes()) {
+                pending.write(bytes, offset, length);
+                return;
+            }
+            if (target == null) {
+                start(true);
+            }
+            target.write(bytes, offset, length);
+        }
+
+        void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target == null) {
+                if (pending.size() == 0) {
+                    if (getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+                        notModified();
+                    }
+                    return;
+                }
+                start(false);
+            }
+            if (target instanceof GZIPOutputStream gzip) {
+                gzip.finish();
+            }
+            target.flush();
+        }
+
+        // Decide the encoding, fix the headers, then release what was held back
+        private void start(boolean large) throws IOException {
+            boolean gzip = large && gzipAccepted && isCompressible();
+            setVary();
+            suffixETag(formatSuffix() + (gzip ? GZIP_SUFFIX : ""));
+
+            OutputStream raw = getResponse().getOutputStream();
+            if (gzip) {
+                super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                target = new GZIPOutputStream(raw, 8192, true);
+            } else {
+                if (!large) {
+                    getResponse().setContentLength(pending.size());
+                }
+                target = raw;
+            }
+            pending.writeTo(target);
+            pending.reset();
+        }
+
+        // No body to decide on: echo the representation the client revalidated, gzipped if its tag was
+        private void notModified() {
+            setVary();
+            String etag = getHeader(HttpHeaders.ETAG);
+            boolean gzip = gzipAccepted && etag != null && ifNoneMatch != null && etag.endsWith("\"")
+                    && ifNoneMatch.contains(etag.substring(0, etag.length() - 1) + negotiatedFormat + GZIP_SUFFIX + "\"");
+            suffixETag(negotiatedFormat + (gzip ? GZIP_SUFFIX : ""));
+        }
+
+        private void setVary() {
+            super.setHeader(HttpHeaders.VARY, varyWith(gzipAccepted
+                    ? HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING : HttpHeaders.ACCEPT));
+        }
+
+        private void suffixETag(String suffix) {
+            String etag = getHeader(HttpHeaders.ETAG);
+            if (!suffix.isEmpty() && etag != null && !etag.startsWith("W/") && etag.endsWith("\"")) {
+                super.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + suffix + "\"");
+            }
+        }
+
+        private boolean isCompressible() {
+            if (getHeader(HttpHeaders.CONTENT_ENCODING) != null || getContentType() == null) {
+                return false;
+            }
+            MediaType type = MediaType.parseMediaType(getContentType());
+            return compressibleTypes.stream().anyMatch(compressible -> compressible.includes(type));
+        }
+
+        private String formatSuffix() {
+            if (getContentType() == null) {
+                return "";
+            }
+            MediaType type = MediaType.parseMediaType(getContentType());
+            return FORMAT_SUFFIXES.entrySet().stream()
+                    .filter(entry -> entry.getKey().includes(type))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse("");
+        }
+
+        private String varyWith(String header) {
+            String vary = getHeader(HttpHeaders.VARY);
+            return vary == null || vary.isBlank() ? header : vary + ", " + header;
+        }
+
+        private final class EncodingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                EncodingResponse.this.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                EncodingResponse.this.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                throw new UnsupportedOperationException("Non-blocking writes are not supported");
+            }
+        }
+    }
+}
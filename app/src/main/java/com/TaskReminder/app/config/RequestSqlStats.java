@@ -0,0 +1,53 @@
+package com.TaskReminder.app.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements prepared while serving the current request.
+ *
+ * Bound to the request thread by SqlBudgetFilter and fed by
+ * RequestStatementInspector; statements issued outside a request are not tracked.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private int statements;
+
+    static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the request being served on this thread, or null outside a request
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql) {
+        statements++;
+        countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * The statement text prepared most often, with its count (an N+1 shows up as one query repeated per row)
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return countsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
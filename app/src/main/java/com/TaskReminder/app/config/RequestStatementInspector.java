@@ -0,0 +1,25 @@
+package com.TaskReminder.app.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the current request's RequestSqlStats,
+ * then hands the SQL to any inspector that was already configured.
+ */
+public class RequestStatementInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    public RequestStatementInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.record(sql);
+        }
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+}
@@ -56,6 +56,10 @@ public class SecurityConfig {
                         // API endpoints
                         .requestMatchers("/api/**").permitAll()
 
+                        // Actuator: health and Prometheus scrape are open, everything else is admin-only
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // All other pages require login
                         .anyRequest().authenticated()
                 )
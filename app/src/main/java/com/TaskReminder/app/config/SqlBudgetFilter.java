@@ -0,0 +1,69 @@
+package com.TaskReminder.app.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Tracks SQL statements per request and flags requests over budget.
+ *
+ * The count and elapsed time are left on the request as attributes, so tests can
+ * assert "this endpoint issues at most N statements". Requests over the statement
+ * budget, or repeating one statement past the repeat threshold (a likely N+1),
+ * are logged as warnings.
+ */
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_ATTRIBUTE = "sqlStatements";
+    public static final String ELAPSED_MS_ATTRIBUTE = "sqlRequestElapsedMs";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    @Value("${app.sql.budget.statements:25}")
+    private int statementBudget;
+
+    @Value("${app.sql.budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            RequestSqlStats.stop();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, stats.getStatements());
+            request.setAttribute(ELAPSED_MS_ATTRIBUTE, elapsedMs);
+            report(request, stats, elapsedMs);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestSqlStats stats, long elapsedMs) {
+        String target = request.getMethod() + " " + request.getRequestURI();
+        if (stats.getStatements() > statementBudget) {
+            log.warn("{} issued {} SQL statements in {} ms (budget {})",
+                    target, stats.getStatements(), elapsedMs, statementBudget);
+        } else {
+            log.debug("{} issued {} SQL statements in {} ms", target, stats.getStatements(), elapsedMs);
+        }
+
+        Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatThreshold) {
+            log.warn("{} ran the same statement {} times, possible N+1: {}",
+                    target, repeated.getValue(), repeated.getKey());
+        }
+    }
+}
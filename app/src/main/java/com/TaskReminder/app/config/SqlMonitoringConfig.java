@@ -0,0 +1,37 @@
+package com.TaskReminder.app.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Installs RequestStatementInspector, chaining any statement inspector set in properties.
+ */
+@Configuration
+public class SqlMonitoringConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new RequestStatementInspector(configuredInspector(properties.get(AvailableSettings.STATEMENT_INSPECTOR))));
+    }
+
+    private static StatementInspector configuredInspector(Object setting) {
+        try {
+            if (setting instanceof StatementInspector inspector) {
+                return inspector;
+            }
+            if (setting instanceof Class<?> type) {
+                return (StatementInspector) type.getDeclaredConstructor().newInstance();
+            }
+            if (setting instanceof String className && !className.isBlank()) {
+                return (StatementInspector) Class.forName(className).getDeclaredConstructor().newInstance();
+            }
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create statement inspector " + setting, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.TaskReminder.app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Active only when requests run on virtual threads
+ * ({@code spring.threads.virtual.enabled=true} on Java 21+).
+ *
+ * Caps concurrent database access at the Hikari pool size so excess
+ * virtual threads park on a semaphore instead of exhausting the pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${app.db.limiter.acquire-timeout-ms:60000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, poolSize, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
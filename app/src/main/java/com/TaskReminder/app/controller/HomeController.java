@@ -1,24 +1,40 @@
 package com.TaskReminder.app.controller;
 
+import com.TaskReminder.app.dto.DashboardSummary;
+import com.TaskReminder.app.dto.TaskReport;
 import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskReportService;
 import com.TaskReminder.app.service.TaskService;
 import com.TaskReminder.app.service.UserService;
+import com.TaskReminder.app.service.UserTaskStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import java.security.Principal;
+import java.time.format.DateTimeFormatter;
 
 @Controller
 public class HomeController {
 
+    // Number of tasks shown in the dashboard "Recent Tasks" card
+    private static final int RECENT_TASKS_LIMIT = 5;
+
+    private static final DateTimeFormatter REPORT_DATE = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+
     @Autowired
     private TaskService taskService;
 
     @Autowired
     private UserService userService;  // ✅ FIX: Was missing
 
+    @Autowired
+    private UserTaskStats userTaskStats;
+
+    @Autowired
+    private TaskReportService taskReportService;
+
     // ========== HOME PAGE REDIRECTS ==========
 
     @GetMapping("/")
@@ -45,13 +61,14 @@ public class HomeController {
 
         model.addAttribute("message", "Welcome to the Task Reminder App! By Anurag");
 
-        model.addAttribute("totalTasks", taskService.countTasksByUser(user));
-        model.addAttribute("pendingTasks", taskService.countPendingTasksByUser(user));
-        model.addAttribute("inProgressTasks", taskService.countInProgressTasksByUser(user));
-        model.addAttribute("doneTasks", taskService.countDoneTasksByUser(user));
-        model.addAttribute("overdueTasks", taskService.getOverdueTasksByUser(user).size());
-        model.addAttribute("todayTasks", taskService.getTasksDueTodayByUser(user).size());
-        model.addAttribute("upcomingTasks", taskService.getUpcomingTasksByUser(user).size());
+        DashboardSummary summary = taskService.getDashboardSummary(user);
+        model.addAttribute("totalTasks", summary.getTotal());
+        model.addAttribute("pendingTasks", summary.getPending());
+        model.addAttribute("inProgressTasks", summary.getInProgress());
+        model.addAttribute("doneTasks", summary.getDone());
+        model.addAttribute("overdueTasks", summary.getOverdue());
+        model.addAttribute("todayTasks", summary.getDueToday());
+        model.addAttribute("upcomingTasks", summary.getUpcoming());
 
         model.addAttribute("currentUser", user);
         addHeaderStats(model, user);
@@ -67,30 +84,11 @@ public class HomeController {
 
         model.addAttribute("message", "Task Reminder Dashboard");
 
-        // Task counts - using user-specific methods
-        model.addAttribute("totalTasks", taskService.countTasksByUser(user));
-        model.addAttribute("pendingTasks", taskService.countPendingTasksByUser(user));
-        model.addAttribute("inProgressTasks", taskService.countInProgressTasksByUser(user));
-        model.addAttribute("doneTasks", taskService.countDoneTasksByUser(user));
-
-        // Priority counts
-        model.addAttribute("highPriorityTasks",
-                taskService.getTasksByUserAndPriority(user, "HIGH").size());
-        model.addAttribute("mediumPriorityTasks",
-                taskService.getTasksByUserAndPriority(user, "MEDIUM").size());
-        model.addAttribute("lowPriorityTasks",
-                taskService.getTasksByUserAndPriority(user, "LOW").size());
-
-        // Date-based counts
-        model.addAttribute("overdueTasks",
-                taskService.getOverdueTasksByUser(user).size());
-        model.addAttribute("todayTasks",
-                taskService.getTasksDueTodayByUser(user).size());
-        model.addAttribute("upcomingTasks",
-                taskService.getUpcomingTasksByUser(user).size());
+        // All status, priority and date-based counts in one query
+        addSummaryAttributes(model, taskService.getDashboardSummary(user));
 
         // Recent tasks for this user
-        model.addAttribute("recentTasks", taskService.getTasksByUser(user));
+        model.addAttribute("recentTasks", taskService.getRecentTasksByUser(user, RECENT_TASKS_LIMIT));
 
         // ✅ FIX: user is now properly defined
         model.addAttribute("currentUser", user);
@@ -107,25 +105,8 @@ public class HomeController {
     public String reports(Model model, Principal principal) {
         User user = getCurrentUser(principal);
 
-        model.addAttribute("tasks", taskService.getTasksByUser(user));
-        model.addAttribute("totalTasks", taskService.countTasksByUser(user));
-        model.addAttribute("pendingTasks", taskService.countPendingTasksByUser(user));
-        model.addAttribute("inProgressTasks", taskService.countInProgressTasksByUser(user));
-        model.addAttribute("doneTasks", taskService.countDoneTasksByUser(user));
-
-        model.addAttribute("highPriorityTasks",
-                taskService.getTasksByUserAndPriority(user, "HIGH").size());
-        model.addAttribute("mediumPriorityTasks",
-                taskService.getTasksByUserAndPriority(user, "MEDIUM").size());
-        model.addAttribute("lowPriorityTasks",
-                taskService.getTasksByUserAndPriority(user, "LOW").size());
-
-        model.addAttribute("overdueTasks",
-                taskService.getOverdueTasksByUser(user).size());
-        model.addAttribute("todayTasks",
-                taskService.getTasksDueTodayByUser(user).size());
-        model.addAttribute("upcomingTasks",
-                taskService.getUpcomingTasksByUser(user).size());
+        // Totals come from the report rollups (live and archived tasks), not from the task rows
+        addReportAttributes(model, taskReportService.getSummary(user));
 
         model.addAttribute("currentUser", user);
         addHeaderStats(model, user);
@@ -139,7 +120,7 @@ public class HomeController {
     public String calendar(Model model, Principal principal) {
         User user = getCurrentUser(principal);
 
-        model.addAttribute("tasks", taskService.getTasksByUser(user));
+        // Events are fetched per visible range from /api/tasks/calendar
         model.addAttribute("currentUser", user);
         addHeaderStats(model, user);
 
@@ -169,14 +150,58 @@ public class HomeController {
         return userService.getCurrentUser(principal.getName());
     }
 
+    /**
+     * Add dashboard/report counters from a precomputed summary
+     */
+    private void addSummaryAttributes(Model model, DashboardSummary summary) {
+        model.addAttribute("totalTasks", summary.getTotal());
+        model.addAttribute("pendingTasks", summary.getPending());
+        model.addAttribute("inProgressTasks", summary.getInProgress());
+        model.addAttribute("doneTasks", summary.getDone());
+
+        model.addAttribute("highPriorityTasks", summary.getHighPriority());
+        model.addAttribute("mediumPriorityTasks", summary.getMediumPriority());
+        model.addAttribute("lowPriorityTasks", summary.getLowPriority());
+
+        model.addAttribute("overdueTasks", summary.getOverdue());
+        model.addAttribute("todayTasks", summary.getDueToday());
+        model.addAttribute("upcomingTasks", summary.getUpcoming());
+    }
+
+    /**
+     * Add report counters and percentages
+     */
+    private void addReportAttributes(Model model, TaskReport report) {
+        model.addAttribute("reportDate", report.getTo().format(REPORT_DATE));
+
+        model.addAttribute("totalTasks", report.getTotal());
+        model.addAttribute("pendingTasks", report.getPending());
+        model.addAttribute("inProgressTasks", report.getInProgress());
+        model.addAttribute("doneTasks", report.getDone());
+
+        model.addAttribute("highPriorityTasks", report.getHighPriority());
+        model.addAttribute("mediumPriorityTasks", report.getMediumPriority());
+        model.addAttribute("lowPriorityTasks", report.getLowPriority());
+
+        model.addAttribute("overdueTasks", report.getOverdue());
+        model.addAttribute("todayTasks", report.getDueToday());
+        model.addAttribute("upcomingTasks", report.getUpcoming());
+
+        model.addAttribute("completionRate", report.getCompletionRate());
+        model.addAttribute("pendingRate", report.getPendingRate());
+        model.addAttribute("inProgressRate", report.getInProgressRate());
+        model.addAttribute("overdueRate", report.getOverdueRate());
+    }
+
     /**
      * Add header statistics to model for navbar display
      */
     private void addHeaderStats(Model model, User user) {
-        model.addAttribute("pendingCount", taskService.countPendingTasksByUser(user));
-        model.addAttribute("inProgressCount", taskService.countInProgressTasksByUser(user));
-        model.addAttribute("doneCount", taskService.countDoneTasksByUser(user));
-        model.addAttribute("overdueCount", taskService.countOverdueTasksByUser(user));
-        model.addAttribute("totalTaskCount", taskService.countTasksByUser(user));
+        UserTaskStats.Counts stats = userTaskStats.getStats(user);
+        model.addAttribute("pendingCount", stats.getPending());
+        model.addAttribute("inProgressCount", stats.getInProgress());
+        model.addAttribute("doneCount", stats.getDone());
+        model.addAttribute("overdueCount", stats.getOverdue());
+        model.addAttribute("totalTaskCount", stats.getTotal());
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.TaskReminder.app.controller;
+
+import com.TaskReminder.app.dto.TaskReport;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskReportService;
+import com.TaskReminder.app.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportRestController {
+
+    @Autowired
+    private TaskReportService taskReportService;
+
+    @Autowired
+    private UserService userService;
+
+    // ✅ The caller's report: totals, daily created/completed for the last ?days=N days, completion latency
+    @GetMapping
+    public ResponseEntity<TaskReport> getReport(
+            @RequestParam(defaultValue = "30") int days,
+            Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        User user = userService.getCurrentUser(principal.getName());
+        try {
+            return new ResponseEntity<>(taskReportService.getReport(user, days), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.TaskReminder.app.controller;
 
+import com.TaskReminder.app.dto.TaskWindow;
 import com.TaskReminder.app.entity.Task;
 import com.TaskReminder.app.entity.User;
 import com.TaskReminder.app.service.TaskService;
 import com.TaskReminder.app.service.UserService;
+import com.TaskReminder.app.service.UserTaskStats;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,6 +28,9 @@ public class TaskController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserTaskStats userTaskStats;
+
     // ✅ Helper: Get current logged-in user
     private User getCurrentUser(Principal principal) {
         return userService.getCurrentUser(principal.getName());
@@ -42,43 +47,67 @@ public class TaskController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortField,
             @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
             Model model,
             Principal principal) {  // ✅ ADD Principal
 
         User user = getCurrentUser(principal);  // ✅ GET USER
+        size = Math.max(1, Math.min(size, 100));
 
         if (sortBy != null && !sortBy.isEmpty()) {
             sortField = sortBy;
             sortDir = "asc";
         }
 
+        // ✅ KEYSET MODE: any cursor parameter (empty = first page) switches to seek pagination
+        if (cursor != null) {
+            TaskWindow window;
+            try {
+                window = taskService.scrollTasks(user, status, priority, keyword,
+                        sortField, sortDir, cursor, size);
+            } catch (IllegalArgumentException e) {
+                return "redirect:/tasks";
+            }
+            model.addAttribute("tasks", window.getContent());
+            model.addAttribute("keyset", true);
+            model.addAttribute("nextCursor", window.getNextCursor());
+            model.addAttribute("pageSize", size);
+            model.addAttribute("size", size);
+            model.addAttribute("sortField", sortField);
+            model.addAttribute("sortDir", sortDir);
+            model.addAttribute("reverseSortDir", sortDir.equals("asc") ? "desc" : "asc");
+            addFilterAttributes(model, user, status, priority, keyword, sortBy);
+            addHeaderStats(model, user);
+            return "tasks";
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortField).ascending()
                 : Sort.by(sortField).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // ✅ FILTER BY USER
-        Page<Task> taskPage = taskService.getFilteredTasksByUser(
-                user, status, priority, keyword, pageable);
+        // ✅ FILTER BY USER: rows as a Slice (no COUNT query), total from the cached counts
+        Slice<Task> taskSlice;
+        long total;
+        try {
+            taskSlice = taskService.getFilteredTaskSliceByUser(user, status, priority, keyword, pageable);
+            total = taskService.countFilteredTasksByUser(user, status, priority, keyword);
+        } catch (IllegalArgumentException e) {
+            return "redirect:/tasks";  // unknown status or priority value
+        }
 
-        long totalElements = taskPage.getTotalElements();
-        int startCount = totalElements > 0 ? (page * size) + 1 : 0;
-        int endCount = (int) Math.min((long) (page * size) + size, totalElements);
+        addPaginationAttributes(model, taskSlice, total, page, size, sortField, sortDir);
+        addFilterAttributes(model, user, status, priority, keyword, sortBy);
 
-        model.addAttribute("tasks", taskPage.getContent());
-        model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", taskPage.getTotalPages());
-        model.addAttribute("totalElements", totalElements);
-        model.addAttribute("totalItems", totalElements);
-        model.addAttribute("pageSize", size);
-        model.addAttribute("size", size);
-        model.addAttribute("startCount", startCount);
-        model.addAttribute("endCount", endCount);
-        model.addAttribute("sortField", sortField);
-        model.addAttribute("sortDir", sortDir);
-        model.addAttribute("reverseSortDir", sortDir.equals("asc") ? "desc" : "asc");
+        addHeaderStats(model, user);  // ✅ PASS USER
 
+        return "tasks";
+    }
+
+    // Filter form state shared by offset and keyset modes of /tasks
+    private void addFilterAttributes(Model model, User user, String status, String priority,
+                                     String keyword, String sortBy) {
         model.addAttribute("statuses", taskService.getStatuses());
         model.addAttribute("priorities", taskService.getPriorities());
         model.addAttribute("selectedStatus", status);
@@ -86,10 +115,10 @@ public class TaskController {
         model.addAttribute("keyword", keyword);
         model.addAttribute("sortBy", sortBy);
         model.addAttribute("baseUrl", "/tasks");
-
-        addHeaderStats(model, user);  // ✅ PASS USER
-
-        return "tasks";
+        // Lists and totals only cover the best matches when the keyword matches more tasks than that
+        if (taskService.isKeywordFilterCapped(user, keyword)) {
+            model.addAttribute("keywordMatchLimit", taskService.getKeywordMatchLimit());
+        }
     }
 
     // ========== ADD TASK ==========
@@ -234,9 +263,10 @@ public class TaskController {
                 : Sort.by(sortField).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Task> taskPage = taskService.getOverdueTasksByUser(user, pageable);
+        Slice<Task> taskSlice = taskService.getOverdueTaskSliceByUser(user, pageable);
+        long total = taskService.countOverdueTasksForView(user);
 
-        addPaginationAttributes(model, taskPage, page, size, sortField, sortDir);
+        addPaginationAttributes(model, taskSlice, total, page, size, sortField, sortDir);
         model.addAttribute("statuses", taskService.getStatuses());
         model.addAttribute("priorities", taskService.getPriorities());
         model.addAttribute("pageTitle", "Overdue Tasks");
@@ -263,9 +293,10 @@ public class TaskController {
                 : Sort.by(sortField).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Task> taskPage = taskService.getTasksDueTodayByUser(user, pageable);
+        Slice<Task> taskSlice = taskService.getTasksDueTodaySliceByUser(user, pageable);
+        long total = taskService.countTasksDueTodayForView(user);
 
-        addPaginationAttributes(model, taskPage, page, size, sortField, sortDir);
+        addPaginationAttributes(model, taskSlice, total, page, size, sortField, sortDir);
         model.addAttribute("statuses", taskService.getStatuses());
         model.addAttribute("priorities", taskService.getPriorities());
         model.addAttribute("pageTitle", "Tasks Due Today");
@@ -292,9 +323,10 @@ public class TaskController {
                 : Sort.by(sortField).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Task> taskPage = taskService.getUpcomingTasksByUser(user, pageable);
+        Slice<Task> taskSlice = taskService.getUpcomingTaskSliceByUser(user, pageable);
+        long total = taskService.countUpcomingTasksForView(user);
 
-        addPaginationAttributes(model, taskPage, page, size, sortField, sortDir);
+        addPaginationAttributes(model, taskSlice, total, page, size, sortField, sortDir);
         model.addAttribute("statuses", taskService.getStatuses());
         model.addAttribute("priorities", taskService.getPriorities());
         model.addAttribute("pageTitle", "Upcoming Tasks");
@@ -305,16 +337,15 @@ public class TaskController {
     }
 
     // ========== PAGINATION HELPER ==========
-    private void addPaginationAttributes(Model model, Page<Task> taskPage,
+    private void addPaginationAttributes(Model model, Slice<Task> taskSlice, long totalElements,
                                          int page, int size,
                                          String sortField, String sortDir) {
-        long totalElements = taskPage.getTotalElements();
         int startCount = totalElements > 0 ? (page * size) + 1 : 0;
         int endCount = (int) Math.min((long) (page * size) + size, totalElements);
 
-        model.addAttribute("tasks", taskPage.getContent());
+        model.addAttribute("tasks", taskSlice.getContent());
         model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", taskPage.getTotalPages());
+        model.addAttribute("totalPages", (int) ((totalElements + size - 1) / size));
         model.addAttribute("totalElements", totalElements);
         model.addAttribute("totalItems", totalElements);
         model.addAttribute("pageSize", size);
@@ -332,10 +363,11 @@ public class TaskController {
 
     // ✅ UPDATED: Header stats per user
     private void addHeaderStats(Model model, User user) {
-        model.addAttribute("pendingCount", taskService.countPendingTasksByUser(user));
-        model.addAttribute("inProgressCount", taskService.countInProgressTasksByUser(user));
-        model.addAttribute("doneCount", taskService.countDoneTasksByUser(user));
-        model.addAttribute("overdueCount", taskService.countOverdueTasksByUser(user));
-        model.addAttribute("totalTaskCount", taskService.countTasksByUser(user));
+        UserTaskStats.Counts stats = userTaskStats.getStats(user);
+        model.addAttribute("pendingCount", stats.getPending());
+        model.addAttribute("inProgressCount", stats.getInProgress());
+        model.addAttribute("doneCount", stats.getDone());
+        model.addAttribute("overdueCount", stats.getOverdue());
+        model.addAttribute("totalTaskCount", stats.getTotal());
     }
 }
\ No newline at end of file
@@ -1,20 +1,41 @@
 package com.TaskReminder.app.controller;
 
+import com.TaskReminder.app.dto.CalendarEvent;
+import com.TaskReminder.app.dto.TaskHistoryWindow;
+import com.TaskReminder.app.dto.TaskWindow;
 import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskExportService;
 import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,62 +45,194 @@ public class TaskRestController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    // ✅ Keyword search over the caller's tasks, ranked by relevance
+    @GetMapping("/search")
+    public ResponseEntity<List<Task>> searchTasks(
+            @RequestParam("q") String keyword,
+            @RequestParam(defaultValue = "20") int limit,
+            Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        User user = userService.getCurrentUser(principal.getName());
+        List<Task> tasks = taskService.searchTasksByUser(user, keyword, Math.min(limit, 100));
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
 
     // ==========================================
     // ✅ NEW: CALENDAR SPECIFIC ENDPOINT
     // ==========================================
+    // FullCalendar sends the visible range as start/end (ISO date or date-time, end exclusive).
+    // Results are scoped to the caller; the ETag follows the user's task version,
+    // so refetching an unchanged month is answered with 304 Not Modified.
     @GetMapping("/calendar")
-    public ResponseEntity<List<Map<String, Object>>> getTasksForCalendar() {
-        List<Task> tasks = taskService.getAllTasks();
+    public ResponseEntity<List<CalendarEvent>> getTasksForCalendar(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            Principal principal,
+            WebRequest webRequest) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
 
-        // Transform Task entities into FullCalendar-friendly JSON
-        List<Map<String, Object>> calendarEvents = tasks.stream().map(task -> {
-            Map<String, Object> event = new HashMap<>();
-            event.put("id", task.getId());
-            event.put("title", task.getTitle());
-            event.put("start", task.getDueDate()); // Maps 'dueDate' to 'start' for the calendar
+        LocalDate from;
+        LocalDate until;
+        try {
+            from = start != null ? parseCalendarDate(start) : LocalDate.now().withDayOfMonth(1);
+            until = end != null ? parseCalendarDate(end) : from.plusMonths(1);
+        } catch (DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
 
-            // Optional: Color coding based on priority
-            String color = "#3788d8"; // Default Blue
-            if ("High".equalsIgnoreCase(task.getPriority())) {
-                color = "#dc3545"; // Red
-            } else if ("Medium".equalsIgnoreCase(task.getPriority())) {
-                color = "#ffc107"; // Yellow/Orange
-            } else if ("Low".equalsIgnoreCase(task.getPriority())) {
-                color = "#28a745"; // Green
-            }
-            event.put("color", color);
+        User user = userService.getCurrentUser(principal.getName());
+        String etag = "\"cal-" + user.getId() + "-" + taskService.getTaskVersion(user) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-            // Optional: Click URL (if you want the calendar item to link somewhere)
-            event.put("url", "/tasks/view/" + task.getId());
+        List<CalendarEvent> calendarEvents = taskService.getCalendarEvents(user, from, until);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(calendarEvents);
+    }
+
+    // "2024-01-28" or "2024-01-28T00:00:00+05:30" -> 2024-01-28
+    private static LocalDate parseCalendarDate(String value) {
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+
+    // ✅ STREAMING EXPORT of the caller's tasks (NDJSON or CSV), optionally by due date range
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        User user = userService.getCurrentUser(principal.getName());
 
-            return event;
-        }).collect(Collectors.toList());
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\"")
+                    .body(out -> taskExportService.writeCsv(user, from, to, out));
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                    .body(out -> taskExportService.writeNdjson(user, from, to, out));
+        }
+        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
 
-        return new ResponseEntity<>(calendarEvents, HttpStatus.OK);
+    // ✅ HISTORY: the caller's completed tasks, newest completion first, including archived ones;
+    // follow nextCursor for the next window
+    @GetMapping("/history")
+    public ResponseEntity<TaskHistoryWindow> getTaskHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        User user = userService.getCurrentUser(principal.getName());
+        try {
+            return new ResponseEntity<>(taskService.getTaskHistory(user, cursor, Math.min(size, 100)), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     // GET all tasks
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> tasks = taskService. getAllTasks();
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    public ResponseEntity<List<Task>> getAllTasks(WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getAllTasks());
+    }
+
+    // ✅ GET tasks with KEYSET pagination (no total count, constant cost per page)
+    @GetMapping("/scroll")
+    public ResponseEntity<TaskWindow> scrollTasks(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(defaultValue = "createdAt") String sortField,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.scrollTasks(null, status, priority, null,
+                    sortField, sortDir, cursor, Math.max(1, Math.min(size, 100))));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     // ✅ GET all tasks with PAGINATION
+    // /page endpoints return a Slice (no COUNT query); ?count=true adds totalElements/totalPages
     @GetMapping("/page")
-    public ResponseEntity<Page<Task>> getAllTasksPaginated(
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getAllTasks(pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    public ResponseEntity<Slice<Task>> getAllTasksPaginated(
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getAllTasks(pageable, count));
+    }
+
+    // ✅ GET all tasks with PAGINATION, only the requested fields (?fields=id,title,dueDate)
+    @GetMapping(value = "/page", params = "fields")
+    public ResponseEntity<Slice<Map<String, Object>>> getTaskFieldsPaginated(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.getTaskFields(parseFields(fields), pageable, count));
+        } catch (IllegalArgumentException | InvalidDataAccessApiUsageException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // "id, title,dueDate" -> [id, title, dueDate]
+    private static List<String> parseFields(String fields) {
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     // GET task by ID
+    // ETag and Last-Modified come from updated_at, read by key first, so an unchanged
+    // task is answered with 304 without loading it
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id, WebRequest webRequest) {
+        LocalDateTime updatedAt = taskService.getTaskUpdatedAt(id);
+        if (updatedAt == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        Instant modified = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        String etag = "\"task-" + id + "-" + ChronoUnit.MICROS.between(Instant.EPOCH, modified) + "\"";
+        if (webRequest.checkNotModified(etag, modified.toEpochMilli())) {
+            return null;
+        }
+
         Task task = taskService. getTaskById(id);
         if (task != null) {
-            return new ResponseEntity<>(task, HttpStatus.OK);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .lastModified(modified)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(task);
         }
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
@@ -118,87 +271,181 @@ public class TaskRestController {
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
 
+    // ==========================================
+    // ✅ BATCH ENDPOINTS (caller's tasks, up to 1000 per request, one transaction each)
+    // ==========================================
+
+    // POST - Create several tasks
+    @PostMapping("/batch")
+    public ResponseEntity<List<Task>> createTasks(@RequestBody List<Task> tasks, Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            User user = userService.getCurrentUser(principal.getName());
+            return new ResponseEntity<>(taskService.createTasks(tasks, user), HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // PUT - Update several tasks (each body carries its id); all or nothing
+    @PutMapping("/batch")
+    public ResponseEntity<List<Task>> updateTasks(@RequestBody List<Task> tasks, Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            User user = userService.getCurrentUser(principal.getName());
+            return new ResponseEntity<>(taskService.updateTasks(tasks, user), HttpStatus.OK);
+        } catch (NoSuchElementException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // POST - Mark several tasks as done (body: array of ids)
+    @PostMapping("/batch/done")
+    public ResponseEntity<List<Task>> markTasksAsDone(@RequestBody List<Long> ids, Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            User user = userService.getCurrentUser(principal.getName());
+            return new ResponseEntity<>(taskService.markTasksAsDone(ids, user), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // POST - Delete several tasks (body: array of ids), returns the ids removed
+    @PostMapping("/batch/delete")
+    public ResponseEntity<List<Long>> deleteTasks(@RequestBody List<Long> ids, Principal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            User user = userService.getCurrentUser(principal.getName());
+            return new ResponseEntity<>(taskService.deleteTasks(ids, user), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     // GET tasks by status ✅ ADD THIS
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable String status) {
-        List<Task> tasks = taskService.getTasksByStatus(status);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable String status, WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.getTasksByStatus(status));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // ✅ GET tasks by status, only the requested fields (?fields=id,title,dueDate)
+    @GetMapping(value = "/status/{status}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getTaskFieldsByStatus(
+            @PathVariable String status,
+            @RequestParam String fields,
+            WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.getTaskFieldsByStatus(status, parseFields(fields)));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     // ✅ GET tasks by status with PAGINATION
     @GetMapping("/status/{status}/page")
-    public ResponseEntity<Page<Task>> getTasksByStatusPaginated(
+    public ResponseEntity<Slice<Task>> getTasksByStatusPaginated(
             @PathVariable String status,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getTasksByStatus(status, pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.getTasksByStatus(status, pageable, count));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     // GET tasks by priority ✅ ADD THIS
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<Task>> getTasksByPriority(@PathVariable String priority) {
-        List<Task> tasks = taskService.getTasksByPriority(priority);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    public ResponseEntity<List<Task>> getTasksByPriority(@PathVariable String priority, WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.getTasksByPriority(priority));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     // ✅ GET tasks by priority with PAGINATION
     @GetMapping("/priority/{priority}/page")
-    public ResponseEntity<Page<Task>> getTasksByPriorityPaginated(
+    public ResponseEntity<Slice<Task>> getTasksByPriorityPaginated(
             @PathVariable String priority,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getTasksByPriority(priority, pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        try {
+            return ifTasksModified(webRequest, () -> taskService.getTasksByPriority(priority, pageable, count));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     // ✅ GET tasks by exact due date
     @GetMapping("/date/{dueDate}")
     public ResponseEntity<List<Task>> getTasksByDueDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat. ISO.DATE) LocalDate dueDate) {
-        List<Task> tasks = taskService.getTasksByDueDate(dueDate);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat. ISO.DATE) LocalDate dueDate,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksByDueDate(dueDate));
     }
 
     // ✅ GET tasks by exact due date with PAGINATION
     @GetMapping("/date/{dueDate}/page")
-    public ResponseEntity<Page<Task>> getTasksByDueDatePaginated(
+    public ResponseEntity<Slice<Task>> getTasksByDueDatePaginated(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getTasksByDueDate(dueDate, pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksByDueDate(dueDate, pageable, count));
     }
 
     // ✅ GET tasks before a date
     @GetMapping("/date/before/{date}")
     public ResponseEntity<List<Task>> getTasksBeforeDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<Task> tasks = taskService.getTasksBeforeDate(date);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksBeforeDate(date));
     }
 
     // ✅ GET tasks before a date with PAGINATION
     @GetMapping("/date/before/{date}/page")
-    public ResponseEntity<Page<Task>> getTasksBeforeDatePaginated(
+    public ResponseEntity<Slice<Task>> getTasksBeforeDatePaginated(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getTasksBeforeDate(date, pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksBeforeDate(date, pageable, count));
     }
 
     // ✅ GET tasks after a date
     @GetMapping("/date/after/{date}")
     public ResponseEntity<List<Task>> getTasksAfterDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<Task> tasks = taskService.getTasksAfterDate(date);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksAfterDate(date));
     }
 
     // ✅ GET tasks after a date with PAGINATION
     @GetMapping("/date/after/{date}/page")
-    public ResponseEntity<Page<Task>> getTasksAfterDatePaginated(
+    public ResponseEntity<Slice<Task>> getTasksAfterDatePaginated(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getTasksAfterDate(date, pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksAfterDate(date, pageable, count));
     }
 
 
@@ -206,18 +453,35 @@ public class TaskRestController {
     @GetMapping("/date/between")
     public ResponseEntity<List<Task>> getTasksBetweenDates(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Task> tasks = taskService. getTasksBetweenDates(startDate, endDate);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksBetweenDates(startDate, endDate));
     }
 
     // ✅ GET tasks between two dates with PAGINATION
     @GetMapping("/date/between/page")
-    public ResponseEntity<Page<Task>> getTasksBetweenDatesPaginated(
+    public ResponseEntity<Slice<Task>> getTasksBetweenDatesPaginated(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<Task> tasks = taskService.getTasksBetweenDates(startDate, endDate, pageable);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+            @RequestParam(defaultValue = "false") boolean count,
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            WebRequest webRequest) {
+        return ifTasksModified(webRequest, () -> taskService.getTasksBetweenDates(startDate, endDate, pageable, count));
+    }
+
+    // ==========================================
+    // ✅ CONDITIONAL GET for the unscoped task lists
+    // ==========================================
+    // Every task write bumps the stored task version, so all lists share one strong ETag per version.
+    // A matching If-None-Match is answered with 304 before any task is loaded or serialized.
+    private <T> ResponseEntity<T> ifTasksModified(WebRequest webRequest, Supplier<T> body) {
+        String etag = "\"tasks-" + taskService.getGlobalTaskVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body.get());
     }
 }
@@ -0,0 +1,42 @@
+package com.TaskReminder.app.dto;
+
+import com.TaskReminder.app.entity.TaskPriority;
+
+import java.time.LocalDate;
+
+/**
+ * FullCalendar event, projected straight from the tasks table
+ * (only id, title, due date and priority are read).
+ */
+public class CalendarEvent {
+
+    private final Long id;
+    private final String title;
+    private final LocalDate start;
+    private final String color;
+
+    public CalendarEvent(Long id, String title, LocalDate start, TaskPriority priority) {
+        this.id = id;
+        this.title = title;
+        this.start = start;  // Maps 'dueDate' to 'start' for the calendar
+        this.color = colorFor(priority);
+    }
+
+    // Color coding based on priority
+    private static String colorFor(TaskPriority priority) {
+        if (priority == null) {
+            return "#3788d8"; // Default Blue
+        }
+        switch (priority) {
+            case HIGH: return "#dc3545"; // Red
+            case MEDIUM: return "#ffc107"; // Yellow/Orange
+            default: return "#28a745"; // Green
+        }
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public LocalDate getStart() { return start; }
+    public String getColor() { return color; }
+    public String getUrl() { return "/tasks/view/" + id; }
+}
@@ -0,0 +1,52 @@
+package com.TaskReminder.app.dto;
+
+/**
+ * Read model for the dashboard page.
+ *
+ * Every status, priority and due-date bucket for one user, filled from a single
+ * conditional-aggregation query (see TaskRepository#getDashboardSummary).
+ */
+public class DashboardSummary {
+
+    private final long total;
+    private final long pending;
+    private final long inProgress;
+    private final long done;
+    private final long highPriority;
+    private final long mediumPriority;
+    private final long lowPriority;
+    private final long overdue;
+    private final long dueToday;
+    private final long upcoming;
+
+    // SUM(...) is NULL when the user has no tasks, so every bucket is null-safe
+    public DashboardSummary(Long total, Long pending, Long inProgress, Long done,
+                            Long highPriority, Long mediumPriority, Long lowPriority,
+                            Long overdue, Long dueToday, Long upcoming) {
+        this.total = valueOf(total);
+        this.pending = valueOf(pending);
+        this.inProgress = valueOf(inProgress);
+        this.done = valueOf(done);
+        this.highPriority = valueOf(highPriority);
+        this.mediumPriority = valueOf(mediumPriority);
+        this.lowPriority = valueOf(lowPriority);
+        this.overdue = valueOf(overdue);
+        this.dueToday = valueOf(dueToday);
+        this.upcoming = valueOf(upcoming);
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    public long getTotal() { return total; }
+    public long getPending() { return pending; }
+    public long getInProgress() { return inProgress; }
+    public long getDone() { return done; }
+    public long getHighPriority() { return highPriority; }
+    public long getMediumPriority() { return mediumPriority; }
+    public long getLowPriority() { return lowPriority; }
+    public long getOverdue() { return overdue; }
+    public long getDueToday() { return dueToday; }
+    public long getUpcoming() { return upcoming; }
+}
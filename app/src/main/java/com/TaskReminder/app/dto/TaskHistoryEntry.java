@@ -0,0 +1,43 @@
+package com.TaskReminder.app.dto;
+
+import com.TaskReminder.app.entity.TaskPriority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One completed task in a user's history, projected from either the live
+ * tasks table or tasks_archive ("archived" tells which).
+ */
+public class TaskHistoryEntry {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final LocalDate dueDate;
+    private final String priority;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final boolean archived;
+
+    public TaskHistoryEntry(Long id, String title, String description, LocalDate dueDate, TaskPriority priority,
+                            LocalDateTime createdAt, LocalDateTime completedAt, boolean archived) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.priority = priority != null ? priority.name() : null;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+        this.archived = archived;
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public LocalDate getDueDate() { return dueDate; }
+    public String getPriority() { return priority; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public boolean isArchived() { return archived; }
+}
@@ -0,0 +1,23 @@
+package com.TaskReminder.app.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of a user's history across the live and archived tiers.
+ * Clients follow nextCursor until hasNext is false.
+ */
+public class TaskHistoryWindow {
+
+    private final List<TaskHistoryEntry> content;
+    private final String nextCursor;
+
+    public TaskHistoryWindow(List<TaskHistoryEntry> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TaskHistoryEntry> getContent() { return content; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return nextCursor != null; }
+    public int getSize() { return content.size(); }
+}
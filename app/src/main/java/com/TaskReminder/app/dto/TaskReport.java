@@ -0,0 +1,111 @@
+package com.TaskReminder.app.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read model for the reports page and /api/reports.
+ *
+ * All-time totals, priorities, the daily trend and the latency distribution come
+ * from the rollup tables (live and archived tasks); the status and due-date
+ * buckets of open tasks come from the cached header counters.
+ */
+public class TaskReport {
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private final long total;
+    private final long done;
+    private final long pending;
+    private final long inProgress;
+    private final long overdue;
+    private final long dueToday;
+    private final long upcoming;
+
+    private final long highPriority;
+    private final long mediumPriority;
+    private final long lowPriority;
+
+    private final List<DayCounts> days;
+    private final List<LatencyCount> completionLatency;
+
+    public TaskReport(LocalDate from, LocalDate to, long total, long done,
+                      long pending, long inProgress, long overdue, long dueToday, long upcoming,
+                      long highPriority, long mediumPriority, long lowPriority,
+                      List<DayCounts> days, List<LatencyCount> completionLatency) {
+        this.from = from;
+        this.to = to;
+        this.total = total;
+        this.done = done;
+        this.pending = pending;
+        this.inProgress = inProgress;
+        this.overdue = overdue;
+        this.dueToday = dueToday;
+        this.upcoming = upcoming;
+        this.highPriority = highPriority;
+        this.mediumPriority = mediumPriority;
+        this.lowPriority = lowPriority;
+        this.days = days;
+        this.completionLatency = completionLatency;
+    }
+
+    // Whole percent of all tasks, 0 when there are none
+    private long rate(long count) {
+        return total > 0 ? Math.round(count * 100.0 / total) : 0;
+    }
+
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+    public long getTotal() { return total; }
+    public long getDone() { return done; }
+    public long getPending() { return pending; }
+    public long getInProgress() { return inProgress; }
+    public long getOverdue() { return overdue; }
+    public long getDueToday() { return dueToday; }
+    public long getUpcoming() { return upcoming; }
+    public long getHighPriority() { return highPriority; }
+    public long getMediumPriority() { return mediumPriority; }
+    public long getLowPriority() { return lowPriority; }
+    public long getCompletionRate() { return rate(done); }
+    public long getPendingRate() { return rate(pending); }
+    public long getInProgressRate() { return rate(inProgress); }
+    public long getOverdueRate() { return rate(overdue); }
+    public List<DayCounts> getDays() { return days; }
+    public List<LatencyCount> getCompletionLatency() { return completionLatency; }
+
+    /**
+     * Tasks created and completed on one day
+     */
+    public static class DayCounts {
+        private final LocalDate day;
+        private final long created;
+        private final long completed;
+
+        public DayCounts(LocalDate day, long created, long completed) {
+            this.day = day;
+            this.created = created;
+            this.completed = completed;
+        }
+
+        public LocalDate getDay() { return day; }
+        public long getCreated() { return created; }
+        public long getCompleted() { return completed; }
+    }
+
+    /**
+     * Completed tasks whose time from creation to completion falls in one bucket
+     */
+    public static class LatencyCount {
+        private final String bucket;
+        private final long count;
+
+        public LatencyCount(String bucket, long count) {
+            this.bucket = bucket;
+            this.count = count;
+        }
+
+        public String getBucket() { return bucket; }
+        public long getCount() { return count; }
+    }
+}
@@ -0,0 +1,25 @@
+package com.TaskReminder.app.dto;
+
+import com.TaskReminder.app.entity.Task;
+
+import java.util.List;
+
+/**
+ * One keyset page of tasks. No total count is computed; clients follow
+ * nextCursor until hasNext is false.
+ */
+public class TaskWindow {
+
+    private final List<Task> content;
+    private final String nextCursor;
+
+    public TaskWindow(List<Task> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Task> getContent() { return content; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return nextCursor != null; }
+    public int getSize() { return content.size(); }
+}
@@ -0,0 +1,80 @@
+package com.TaskReminder.app.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A completed task moved out of the tasks table (see V5 migration).
+ *
+ * Rows are written only by TaskArchiver, copying the task row as is with the
+ * same id, and are never updated, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_user_completed", columnList = "user_id, completed_at")
+})
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Convert(converter = TaskStatus.CodeConverter.class)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Convert(converter = TaskPriority.CodeConverter.class)
+    private TaskPriority priority;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    protected ArchivedTask() {}
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public LocalDate getDueDate() { return dueDate; }
+    public String getStatus() { return status != null ? status.name() : null; }
+    public String getPriority() { return priority != null ? priority.name() : null; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public User getUser() { return user; }
+}
@@ -2,7 +2,9 @@ package com.TaskReminder.app.entity;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,13 +15,27 @@ import jakarta.persistence.Table;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Mirrors db/migration; Flyway owns the DDL, these document the access paths
+        @Index(name = "idx_tasks_user_status_due", columnList = "user_id, status, due_date"),
+        @Index(name = "idx_tasks_user_due_date", columnList = "user_id, due_date"),
+        @Index(name = "idx_tasks_user_priority", columnList = "user_id, priority"),
+        @Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_tasks_user_title", columnList = "user_id, title"),
+        @Index(name = "idx_tasks_status_completed", columnList = "status, completed_at"),
+        @Index(name = "idx_tasks_priority", columnList = "priority"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date")
+})
 
 public class Task {
 
 
+    // Ids are handed out in blocks (see V2 migration) so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id")
+    @TableGenerator(name = "task_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "tasks", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,10 +47,13 @@ public class Task {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Stored as one-byte codes (see V3 migration); the String accessors below keep forms and JSON unchanged
+    @Convert(converter = TaskStatus.CodeConverter.class)
     @Column(nullable = false)
-    private String status = "PENDING";
+    private TaskStatus status = TaskStatus.PENDING;
 
-    private String priority = "MEDIUM";
+    @Convert(converter = TaskPriority.CodeConverter.class)
+    private TaskPriority priority = TaskPriority.MEDIUM;
 
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -43,12 +62,28 @@ public class Task {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    // Last write to the row; drives the ETag / Last-Modified of GET /api/tasks/{id}
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime. now();
+        this.updatedAt = now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = now();
+    }
+
+    // DATETIME(6) keeps microseconds; truncate so the in-memory value matches the stored one
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     // ✅ NEW: Link task to a user
+    @JsonIgnore  // lazy proxy, never serialized by the REST API
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -60,8 +95,8 @@ public class Task {
         this.title = title;
         this.description = description;
         this.dueDate = dueDate;
-        this.status = status;
-        this.priority = priority;
+        setStatus(status);
+        setPriority(priority);
     }
 
 
@@ -78,15 +113,25 @@ public class Task {
     public LocalDate getDueDate() { return dueDate; }
     public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public String getStatus() { return status != null ? status.name() : null; }
+    public void setStatus(String status) { this.status = TaskStatus.from(status); }
+
+    public String getPriority() { return priority != null ? priority.name() : null; }
+    public void setPriority(String priority) { this.priority = TaskPriority.from(priority); }
 
-    public String getPriority() { return priority; }
-    public void setPriority(String priority) { this.priority = priority; }
+    @JsonIgnore
+    public TaskStatus getTaskStatus() { return status; }
+    public void setTaskStatus(TaskStatus status) { this.status = status; }
+
+    @JsonIgnore
+    public TaskPriority getTaskPriority() { return priority; }
+    public void setTaskPriority(TaskPriority priority) { this.priority = priority; }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
     // ✅ NEW:  Getter and Setter for completedAt
     public LocalDateTime getCompletedAt() { return completedAt; }
     public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
@@ -0,0 +1,69 @@
+package com.TaskReminder.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Tasks created and completed by one user on one day, per priority (see V6 migration).
+ *
+ * Rows are only changed through TaskRollupRepository upserts, never through the entity.
+ */
+@Entity
+@IdClass(TaskDailyRollup.Key.class)
+@Table(name = "task_daily_rollups")
+public class TaskDailyRollup {
+
+    // Priority code of tasks without a priority
+    public static final byte NO_PRIORITY = 0;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "rollup_day")
+    private LocalDate day;
+
+    @Id
+    private byte priority;
+
+    @Column(name = "created_count", nullable = false)
+    private int createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    protected TaskDailyRollup() {}
+
+    public Long getUserId() { return userId; }
+    public LocalDate getDay() { return day; }
+    public byte getPriority() { return priority; }
+    public int getCreatedCount() { return createdCount; }
+    public int getCompletedCount() { return completedCount; }
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate day;
+        private byte priority;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && priority == key.priority
+                    && Objects.equals(userId, key.userId) && Objects.equals(day, key.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, day, priority);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.TaskReminder.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Completed tasks of one user in one creation-to-completion latency bucket (see V6 migration).
+ *
+ * Rows are only changed through TaskRollupRepository upserts, never through the entity.
+ */
+@Entity
+@IdClass(TaskLatencyRollup.Key.class)
+@Table(name = "task_latency_rollups")
+public class TaskLatencyRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // TaskRollups.LatencyBucket code
+    @Id
+    private byte bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    protected TaskLatencyRollup() {}
+
+    public Long getUserId() { return userId; }
+    public byte getBucket() { return bucket; }
+    public int getTaskCount() { return taskCount; }
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private byte bucket;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && bucket == key.bucket && Objects.equals(userId, key.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, bucket);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.TaskReminder.app.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Locale;
+
+/**
+ * Task priority, stored in tasks.priority as a one-byte code that doubles as its rank:
+ * ORDER BY priority DESC lists HIGH first straight off idx_tasks_user_priority.
+ * Codes are persisted data: never renumber an existing constant.
+ */
+public enum TaskPriority {
+
+    LOW(1),
+    MEDIUM(2),
+    HIGH(3);
+
+    private final byte code;
+
+    TaskPriority(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() { return code; }
+
+    // Higher rank = more urgent
+    public int getRank() { return code; }
+
+    public static TaskPriority fromCode(byte code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
+
+    /**
+     * Parse a priority name (case-insensitive); null or blank gives null
+     */
+    public static TaskPriority from(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown task priority: " + name);
+        }
+    }
+
+    @Converter
+    public static class CodeConverter implements AttributeConverter<TaskPriority, Byte> {
+
+        @Override
+        public Byte convertToDatabaseColumn(TaskPriority priority) {
+            return priority != null ? priority.code : null;
+        }
+
+        @Override
+        public TaskPriority convertToEntityAttribute(Byte code) {
+            return code != null ? fromCode(code) : null;
+        }
+    }
+}
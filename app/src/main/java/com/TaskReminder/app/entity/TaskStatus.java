@@ -0,0 +1,62 @@
+package com.TaskReminder.app.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Locale;
+
+/**
+ * Task workflow state, stored in tasks.status as a one-byte code.
+ * Codes are persisted data: never renumber an existing constant.
+ */
+public enum TaskStatus {
+
+    PENDING(1),
+    IN_PROGRESS(2),
+    DONE(3);
+
+    private final byte code;
+
+    TaskStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() { return code; }
+
+    public static TaskStatus fromCode(byte code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+
+    /**
+     * Parse a status name (case-insensitive); null or blank gives null
+     */
+    public static TaskStatus from(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown task status: " + name);
+        }
+    }
+
+    @Converter
+    public static class CodeConverter implements AttributeConverter<TaskStatus, Byte> {
+
+        @Override
+        public Byte convertToDatabaseColumn(TaskStatus status) {
+            return status != null ? status.code : null;
+        }
+
+        @Override
+        public TaskStatus convertToEntityAttribute(Byte code) {
+            return code != null ? fromCode(code) : null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.TaskReminder.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Write counter for one task owner (see V4 migration).
+ *
+ * Rows are only ever incremented, by TaskVersionRepository.bump, so a version
+ * never repeats and can back a strong ETag.
+ */
+@Entity
+@Table(name = "task_versions")
+public class TaskVersion {
+
+    // Owner id of tasks without a user
+    public static final long UNOWNED = 0L;
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private long version;
+
+    protected TaskVersion() {}
+
+    public Long getOwnerId() { return ownerId; }
+
+    public long getVersion() { return version; }
+}
@@ -0,0 +1,46 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.dto.TaskHistoryEntry;
+import com.TaskReminder.app.entity.ArchivedTask;
+import com.TaskReminder.app.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    // Copy task rows that are still DONE and completed before the cutoff into the archive, inside
+    // the caller's transaction (TaskArchiver deletes them afterwards with the same predicate)
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive (id, title, description, due_date, status, priority, " +
+            "created_at, completed_at, updated_at, archived_at, user_id) " +
+            "SELECT id, title, description, due_date, status, priority, " +
+            "created_at, completed_at, updated_at, :archivedAt, user_id FROM tasks " +
+            "WHERE id IN (:ids) AND status = :doneCode AND completed_at < :cutoff",
+            nativeQuery = true)
+    int copyFromTasks(@Param("ids") List<Long> ids, @Param("doneCode") byte doneCode,
+                      @Param("cutoff") LocalDateTime cutoff, @Param("archivedAt") LocalDateTime archivedAt);
+
+    long countByUser(User user);
+
+    // Archived part of a user's history, most recently completed first
+    @Query("SELECT new com.TaskReminder.app.dto.TaskHistoryEntry(a.id, a.title, a.description, a.dueDate, " +
+            "a.priority, a.createdAt, a.completedAt, true) " +
+            "FROM ArchivedTask a WHERE a.user = :user ORDER BY a.completedAt DESC, a.id DESC LIMIT :limit")
+    List<TaskHistoryEntry> findHistory(@Param("user") User user, @Param("limit") int limit);
+
+    // Same, continuing after a keyset position (completedAt, id)
+    @Query("SELECT new com.TaskReminder.app.dto.TaskHistoryEntry(a.id, a.title, a.description, a.dueDate, " +
+            "a.priority, a.createdAt, a.completedAt, true) " +
+            "FROM ArchivedTask a WHERE a.user = :user " +
+            "AND (a.completedAt < :completedAt OR (a.completedAt = :completedAt AND a.id < :id)) " +
+            "ORDER BY a.completedAt DESC, a.id DESC LIMIT :limit")
+    List<TaskHistoryEntry> findHistoryBefore(@Param("user") User user, @Param("completedAt") LocalDateTime completedAt,
+                                             @Param("id") Long id, @Param("limit") int limit);
+}
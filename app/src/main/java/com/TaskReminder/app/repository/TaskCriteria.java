@@ -0,0 +1,102 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Builds one Task query out of optional filters.
+ *
+ * Every setter ignores an unset value (null, blank keyword), so callers pass request
+ * parameters straight through and any combination becomes a single WHERE clause,
+ * run through JpaSpecificationExecutor (findAll / count / findBy).
+ */
+public final class TaskCriteria {
+
+    private Specification<Task> spec = Specification.where(null);
+
+    private TaskCriteria() {}
+
+    public static TaskCriteria tasks() {
+        return new TaskCriteria();
+    }
+
+    // ==================== SCOPE ====================
+
+    public TaskCriteria ownedBy(User user) {
+        return user != null ? and(TaskSpecifications.belongsTo(user)) : this;
+    }
+
+    public TaskCriteria idIn(Collection<Long> ids) {
+        return ids != null ? and(TaskSpecifications.idIn(ids)) : this;
+    }
+
+    // ==================== STATUS / PRIORITY / KEYWORD ====================
+
+    public TaskCriteria status(TaskStatus status) {
+        return status != null ? and(TaskSpecifications.hasStatus(status)) : this;
+    }
+
+    public TaskCriteria priority(TaskPriority priority) {
+        return priority != null ? and(TaskSpecifications.hasPriority(priority)) : this;
+    }
+
+    public TaskCriteria notDone() {
+        return and(TaskSpecifications.isNot(TaskStatus.DONE));
+    }
+
+    public TaskCriteria titleContains(String keyword) {
+        return keyword != null && !keyword.isBlank() ? and(TaskSpecifications.titleContains(keyword.trim())) : this;
+    }
+
+    // ==================== DUE DATE ====================
+
+    public TaskCriteria dueOn(LocalDate date) {
+        return date != null ? and(TaskSpecifications.dueOn(date)) : this;
+    }
+
+    public TaskCriteria dueBefore(LocalDate date) {
+        return date != null ? and(TaskSpecifications.dueBefore(date)) : this;
+    }
+
+    public TaskCriteria dueAfter(LocalDate date) {
+        return date != null ? and(TaskSpecifications.dueAfter(date)) : this;
+    }
+
+    /**
+     * Due date within [from, to], inclusive like the derived ...DueDateBetween finders;
+     * either bound may be null for an open range
+     */
+    public TaskCriteria dueBetween(LocalDate from, LocalDate to) {
+        if (from != null) {
+            and(TaskSpecifications.dueOnOrAfter(from));
+        }
+        if (to != null) {
+            and(TaskSpecifications.dueOnOrBefore(to));
+        }
+        return this;
+    }
+
+    /**
+     * Due before the given day and not done
+     */
+    public TaskCriteria overdueAsOf(LocalDate today) {
+        return dueBefore(today).notDone();
+    }
+
+    // ==================== RESULT ====================
+
+    public TaskCriteria and(Specification<Task> other) {
+        spec = spec.and(other);
+        return this;
+    }
+
+    public Specification<Task> toSpecification() {
+        return spec;
+    }
+}
@@ -0,0 +1,27 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse-fieldset reads: only the requested Task columns are selected,
+ * each row comes back as a field-name to value map in request order.
+ */
+public interface TaskFieldsRepository {
+
+    // Task attributes a client may ask for (the user association is never exposed)
+    Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "title", "description", "dueDate", "status", "priority", "createdAt", "completedAt");
+
+    // withTotal = false reads pageSize + 1 rows and no COUNT (Slice); true returns a Page
+    Slice<Map<String, Object>> findFields(Specification<Task> spec, List<String> fields, Pageable pageable, boolean withTotal);
+
+    List<Map<String, Object>> findFields(Specification<Task> spec, List<String> fields, Sort sort);
+}
@@ -0,0 +1,112 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria tuple queries behind TaskFieldsRepository
+ */
+class TaskFieldsRepositoryImpl implements TaskFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Map<String, Object>> findFields(Specification<Task> spec, List<String> fields,
+                                                 Pageable pageable, boolean withTotal) {
+        TypedQuery<Tuple> query = tupleQuery(spec, fields, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            List<Map<String, Object>> rows = toMaps(query.getResultList(), fields);
+            return new PageImpl<>(rows, pageable, rows.size());
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        if (!withTotal) {
+            query.setMaxResults(pageable.getPageSize() + 1);
+            List<Map<String, Object>> rows = toMaps(query.getResultList(), fields);
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            List<Map<String, Object>> content = hasNext ? new ArrayList<>(rows.subList(0, pageable.getPageSize())) : rows;
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        query.setMaxResults(pageable.getPageSize());
+        List<Map<String, Object>> rows = toMaps(query.getResultList(), fields);
+
+        // Skip the count when this page is already the last one
+        if (pageable.getOffset() == 0 && rows.size() < pageable.getPageSize()) {
+            return new PageImpl<>(rows, pageable, rows.size());
+        }
+        return new PageImpl<>(rows, pageable, count(spec));
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Task> spec, List<String> fields, Sort sort) {
+        return toMaps(tupleQuery(spec, fields, sort).getResultList(), fields);
+    }
+
+    private TypedQuery<Tuple> tupleQuery(Specification<Task> spec, List<String> fields, Sort sort) {
+        for (String field : fields) {
+            if (!SELECTABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Map<String, Object>> toMaps(List<Tuple> tuples, List<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -1,28 +1,44 @@
 package com.TaskReminder.app.repository;
 
+import com.TaskReminder.app.dto.CalendarEvent;
+import com.TaskReminder.app.dto.DashboardSummary;
+import com.TaskReminder.app.dto.TaskHistoryEntry;
 import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 import com.TaskReminder.app.entity.User;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskFieldsRepository, TaskSliceRepository {
+
+    // Conditional GET: validator for one task, read by primary key without loading the entity
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 
     // Find all tasks ordered by created date (newest first)
     List<Task> findAllByOrderByCreatedAtDesc();
 
     // Find tasks by status
-    List<Task> findByStatus(String status);
+    List<Task> findByStatus(TaskStatus status);
 
     // Find tasks by priority
-    List<Task> findByPriority(String priority);
+    List<Task> findByPriority(TaskPriority priority);
 
     // ✅ ADD THESE - Find tasks by date
     List<Task> findByDueDate(LocalDate dueDate);
@@ -41,26 +57,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Find tasks by title containing keyword (case-insensitive)
     List<Task> findByTitleContainingIgnoreCase(String title);
 
-    // ========== COMBINED FILTER QUERIES ==========
-
-    // Filter by status AND priority
-    List<Task> findByStatusAndPriority(String status, String priority);
-
-    // Filter by status AND title keyword
-    List<Task> findByStatusAndTitleContainingIgnoreCase(String status, String title);
-
-    // Filter by priority AND title keyword
-    List<Task> findByPriorityAndTitleContainingIgnoreCase(String priority, String title);
-
-    // Filter by status AND priority AND title keyword
-    List<Task> findByStatusAndPriorityAndTitleContainingIgnoreCase(String status, String priority, String title);
+    // Combined filters (status, priority, keyword, due window, owner) go through
+    // TaskCriteria and the inherited JpaSpecificationExecutor methods
 
     // ========== SORTING QUERIES ==========
 
     // Find all ordered by due date ascending
     List<Task> findAllByOrderByDueDateAsc();
 
-    // Find all ordered by priority descending
+    // Find all ordered by priority descending (codes are ranks, so HIGH comes first)
     List<Task> findAllByOrderByPriorityDesc();
 
     // Find all ordered by title ascending
@@ -72,40 +77,8 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Pageable version of findAll (already inherited, but explicit for clarity)
     Page<Task> findAll(Pageable pageable);
 
-    // Find tasks by status with pagination
-    Page<Task> findByStatus(String status, Pageable pageable);
-
-    // Find tasks by priority with pagination
-    Page<Task> findByPriority(String priority, Pageable pageable);
-
-    // Find tasks by due date with pagination
-    Page<Task> findByDueDate(LocalDate dueDate, Pageable pageable);
-
-    // Find tasks before a date with pagination
-    Page<Task> findByDueDateBefore(LocalDate date, Pageable pageable);
-
-    // Find tasks after a date with pagination
-    Page<Task> findByDueDateAfter(LocalDate date, Pageable pageable);
-
-    // Find tasks between two dates with pagination
-    Page<Task> findByDueDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
-
-    // ========== PAGINATION WITH FILTERS ==========
-
-    // Find by title keyword with pagination
-    Page<Task> findByTitleContainingIgnoreCase(String title, Pageable pageable);
-
-    // Find by status and priority with pagination
-    Page<Task> findByStatusAndPriority(String status, String priority, Pageable pageable);
-
-    // Find by status and title keyword with pagination
-    Page<Task> findByStatusAndTitleContainingIgnoreCase(String status, String title, Pageable pageable);
-
-    // Find by priority and title keyword with pagination
-    Page<Task> findByPriorityAndTitleContainingIgnoreCase(String priority, String title, Pageable pageable);
-
-    // Find by status, priority and title keyword with pagination
-    Page<Task> findByStatusAndPriorityAndTitleContainingIgnoreCase(String status, String priority, String title, Pageable pageable);
+    // Filtered pages go through TaskCriteria: findAll(spec, pageable) when a total
+    // is needed, findSlice(spec, pageable) (no COUNT query) otherwise
 
 
     // ==========================================================
@@ -116,7 +89,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * Count tasks by status
      * Used for: Pending, In Progress, Done counts
      */
-    long countByStatus(String status);
+    long countByStatus(TaskStatus status);
 
     /**
      * Count tasks by due date
@@ -134,13 +107,13 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * Count tasks before a date with specific status
      * Used for: Overdue tasks (alternative method)
      */
-    long countByDueDateBeforeAndStatusNot(LocalDate date, String status);
+    long countByDueDateBeforeAndStatusNot(LocalDate date, TaskStatus status);
 
     /**
      * Count tasks by priority
      * Used for: Priority-based counts
      */
-    long countByPriority(String priority);
+    long countByPriority(TaskPriority priority);
 
     // ==================== OPTIONAL: CUSTOM QUERY METHODS ====================
 
@@ -148,25 +121,25 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * Count overdue tasks using custom query
      * More efficient than filtering in Java
      */
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.dueDate < :today AND t.status != 'DONE'")
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.dueDate < :today AND t.status != com.TaskReminder.app.entity.TaskStatus.DONE")
     long countOverdueTasksQuery(@Param("today") LocalDate today);
 
     /**
      * Count tasks by status using custom query
      */
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
-    long countTasksByStatusQuery(@Param("status") String status);
+    long countTasksByStatusQuery(@Param("status") TaskStatus status);
 
     /**
      * Count high priority tasks that are not done
      */
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.priority = 'HIGH' AND t.status != 'DONE'")
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.priority = com.TaskReminder.app.entity.TaskPriority.HIGH AND t.status != com.TaskReminder.app.entity.TaskStatus.DONE")
     long countActiveHighPriorityTasks();
 
     /**
      * Count tasks due within next N days
      */
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.dueDate BETWEEN :startDate AND :endDate AND t.status != 'DONE'")
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.dueDate BETWEEN :startDate AND :endDate AND t.status != com.TaskReminder.app.entity.TaskStatus.DONE")
     long countTasksDueInRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     // ========== ✅ NEW: USER-SPECIFIC QUERIES ==========
@@ -176,55 +149,114 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Page<Task> findByUser(User user, Pageable pageable);
 
     // Find tasks by user and status
-    List<Task> findByUserAndStatus(User user, String status);
-    Page<Task> findByUserAndStatus(User user, String status, Pageable pageable);
+    List<Task> findByUserAndStatus(User user, TaskStatus status);
+    Page<Task> findByUserAndStatus(User user, TaskStatus status, Pageable pageable);
 
     // Find tasks by user and priority
-    List<Task> findByUserAndPriority(User user, String priority);
-    Page<Task> findByUserAndPriority(User user, String priority, Pageable pageable);
+    List<Task> findByUserAndPriority(User user, TaskPriority priority);
+    Page<Task> findByUserAndPriority(User user, TaskPriority priority, Pageable pageable);
 
     // Count tasks by user and status
-    long countByUserAndStatus(User user, String status);
+    long countByUserAndStatus(User user, TaskStatus status);
 
     // Count all tasks by user
     long countByUser(User user);
 
+    // Per-status totals plus overdue, due-today and upcoming counts for a user in a single grouped query,
+    // with the user's task version read by the same statement (so both describe the same state)
+    // Each row: [TaskStatus, count, overdueCount, dueTodayCount, upcomingCount, version or null]
+    @Query("SELECT t.status, COUNT(t), " +
+            "SUM(CASE WHEN t.dueDate < :today AND t.status <> com.TaskReminder.app.entity.TaskStatus.DONE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.dueDate = :today THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.dueDate > :today AND t.status <> com.TaskReminder.app.entity.TaskStatus.DONE THEN 1 ELSE 0 END), " +
+            "(SELECT v.version FROM TaskVersion v WHERE v.ownerId = :#{#user.id}) " +
+            "FROM Task t WHERE t.user = :user GROUP BY t.status")
+    List<Object[]> countByUserGroupedByStatus(@Param("user") User user, @Param("today") LocalDate today);
+
+    // Every dashboard bucket (status, priority, due window) for a user in one pass
+    @Query("SELECT new com.TaskReminder.app.dto.DashboardSummary(" +
+            "COUNT(t), " +
+            "SUM(CASE WHEN t.status = com.TaskReminder.app.entity.TaskStatus.PENDING THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = com.TaskReminder.app.entity.TaskStatus.IN_PROGRESS THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = com.TaskReminder.app.entity.TaskStatus.DONE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = com.TaskReminder.app.entity.TaskPriority.HIGH THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = com.TaskReminder.app.entity.TaskPriority.MEDIUM THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = com.TaskReminder.app.entity.TaskPriority.LOW THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.dueDate < :today AND t.status <> com.TaskReminder.app.entity.TaskStatus.DONE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.dueDate = :today THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.dueDate > :today AND t.status <> com.TaskReminder.app.entity.TaskStatus.DONE THEN 1 ELSE 0 END)) " +
+            "FROM Task t WHERE t.user = :user")
+    DashboardSummary getDashboardSummary(@Param("user") User user, @Param("today") LocalDate today);
+
+    // Calendar events in a due-date window [start, end), reading only the columns the calendar needs
+    @Query("SELECT new com.TaskReminder.app.dto.CalendarEvent(t.id, t.title, t.dueDate, t.priority) " +
+            "FROM Task t WHERE t.user = :user AND t.dueDate >= :start AND t.dueDate < :end")
+    List<CalendarEvent> findCalendarEvents(@Param("user") User user,
+                                           @Param("start") LocalDate start,
+                                           @Param("end") LocalDate end);
+
+    // Most recently created tasks for a user, bounded by the pageable size
+    List<Task> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
     // Overdue tasks for a user
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate < :today AND t.status != 'DONE'")
+    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate < :today AND t.status != com.TaskReminder.app.entity.TaskStatus.DONE")
     List<Task> findOverdueTasksByUser(@Param("user") User user, @Param("today") LocalDate today);
 
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate < :today AND t.status != 'DONE'")
-    Page<Task> findOverdueTasksByUser(@Param("user") User user, @Param("today") LocalDate today, Pageable pageable);
-
     // Count overdue tasks for a user
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.user = :user AND t.dueDate < :today AND t.status != 'DONE'")
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.user = :user AND t.dueDate < :today AND t.status != com.TaskReminder.app.entity.TaskStatus.DONE")
     long countOverdueTasksByUser(@Param("user") User user, @Param("today") LocalDate today);
 
     // Tasks due today for a user
     @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate = :today")
     List<Task> findTasksDueTodayByUser(@Param("user") User user, @Param("today") LocalDate today);
 
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate = :today")
-    Page<Task> findTasksDueTodayByUser(@Param("user") User user, @Param("today") LocalDate today, Pageable pageable);
-
     // Upcoming tasks for a user
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate > :today AND t.status != 'DONE'")
+    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate > :today AND t.status != com.TaskReminder.app.entity.TaskStatus.DONE")
     List<Task> findUpcomingTasksByUser(@Param("user") User user, @Param("today") LocalDate today);
 
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate > :today AND t.status != 'DONE'")
-    Page<Task> findUpcomingTasksByUser(@Param("user") User user, @Param("today") LocalDate today, Pageable pageable);
-
-    // ✅ Search/filter with user
-    @Query("SELECT t FROM Task t WHERE t.user = :user " +
-            "AND (:status IS NULL OR t.status = :status) " +
-            "AND (:priority IS NULL OR t.priority = :priority) " +
-            "AND (:keyword IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Task> findFilteredTasksByUser(
-            @Param("user") User user,
-            @Param("status") String status,
-            @Param("priority") String priority,
-            @Param("keyword") String keyword,
-            Pageable pageable);
+    // Open tasks due on or after a date, walked in id order: rows are [id, userId, dueDate] (reminder startup load)
+    @Query("SELECT t.id, t.user.id, t.dueDate FROM Task t " +
+            "WHERE t.status <> com.TaskReminder.app.entity.TaskStatus.DONE AND t.dueDate >= :from AND t.id > :afterId ORDER BY t.id")
+    List<Object[]> findReminderCandidates(@Param("from") LocalDate from,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    // One task's current owner, due date and status: rows are [userId, dueDate, status] (re-checked before a reminder fires)
+    @Query("SELECT t.user.id, t.dueDate, t.status FROM Task t WHERE t.id = :id")
+    List<Object[]> findReminderState(@Param("id") Long id);
+
+    // Walk the table in id order (search index rebuild)
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // ========== ARCHIVE TIER (see TaskArchiver) ==========
+
+    // [id, owner id] of the oldest completions, off idx_tasks_status_completed. The rows stay
+    // locked (FOR UPDATE) until the caller commits, so a concurrent edit waits for the move.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id, t.user.id FROM Task t WHERE t.status = com.TaskReminder.app.entity.TaskStatus.DONE " +
+            "AND t.completedAt < :cutoff ORDER BY t.completedAt, t.id")
+    List<Object[]> findArchivableForUpdate(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Same predicate as findArchivableForUpdate, so only tasks that are still archivable go
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.status = com.TaskReminder.app.entity.TaskStatus.DONE " +
+            "AND t.completedAt < :cutoff")
+    int deleteArchivable(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    // Live part of a user's history, most recently completed first
+    @Query("SELECT new com.TaskReminder.app.dto.TaskHistoryEntry(t.id, t.title, t.description, t.dueDate, " +
+            "t.priority, t.createdAt, t.completedAt, false) " +
+            "FROM Task t WHERE t.user = :user AND t.status = com.TaskReminder.app.entity.TaskStatus.DONE " +
+            "ORDER BY t.completedAt DESC, t.id DESC LIMIT :limit")
+    List<TaskHistoryEntry> findHistory(@Param("user") User user, @Param("limit") int limit);
+
+    // Same, continuing after a keyset position (completedAt, id)
+    @Query("SELECT new com.TaskReminder.app.dto.TaskHistoryEntry(t.id, t.title, t.description, t.dueDate, " +
+            "t.priority, t.createdAt, t.completedAt, false) " +
+            "FROM Task t WHERE t.user = :user AND t.status = com.TaskReminder.app.entity.TaskStatus.DONE " +
+            "AND (t.completedAt < :completedAt OR (t.completedAt = :completedAt AND t.id < :id)) " +
+            "ORDER BY t.completedAt DESC, t.id DESC LIMIT :limit")
+    List<TaskHistoryEntry> findHistoryBefore(@Param("user") User user, @Param("completedAt") LocalDateTime completedAt,
+                                             @Param("id") Long id, @Param("limit") int limit);
 }
 
@@ -0,0 +1,93 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.TaskDailyRollup;
+import com.TaskReminder.app.entity.TaskLatencyRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskRollupRepository extends JpaRepository<TaskDailyRollup, TaskDailyRollup.Key> {
+
+    // ==================== INCREMENTAL UPSERTS (joins the writer's transaction) ====================
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_daily_rollups (user_id, rollup_day, priority, created_count, completed_count) " +
+            "VALUES (:userId, :day, :priority, :created, :completed) " +
+            "ON DUPLICATE KEY UPDATE created_count = created_count + :created, " +
+            "completed_count = completed_count + :completed", nativeQuery = true)
+    int addDaily(@Param("userId") Long userId, @Param("day") LocalDate day, @Param("priority") byte priority,
+                 @Param("created") int created, @Param("completed") int completed);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_latency_rollups (user_id, bucket, task_count) VALUES (:userId, :bucket, :count) " +
+            "ON DUPLICATE KEY UPDATE task_count = task_count + :count", nativeQuery = true)
+    int addLatency(@Param("userId") Long userId, @Param("bucket") byte bucket, @Param("count") int count);
+
+    // ==================== REPORT READS (O(days) rows per user) ====================
+
+    // Daily rows from a day on, for trends
+    @Query("SELECT r FROM TaskDailyRollup r WHERE r.userId = :userId AND r.day >= :from ORDER BY r.day")
+    List<TaskDailyRollup> findDailyFrom(@Param("userId") Long userId, @Param("from") LocalDate from);
+
+    // All-time totals per priority; each row: [priority code, created, completed]
+    @Query("SELECT r.priority, SUM(r.createdCount), SUM(r.completedCount) " +
+            "FROM TaskDailyRollup r WHERE r.userId = :userId GROUP BY r.priority")
+    List<Object[]> sumByPriority(@Param("userId") Long userId);
+
+    @Query("SELECT l FROM TaskLatencyRollup l WHERE l.userId = :userId ORDER BY l.bucket")
+    List<TaskLatencyRollup> findLatency(@Param("userId") Long userId);
+
+    // ==================== BACKFILL (see TaskRollupBackfill) ====================
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_daily_rollups WHERE user_id = :userId", nativeQuery = true)
+    int deleteDaily(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_latency_rollups WHERE user_id = :userId", nativeQuery = true)
+    int deleteLatency(@Param("userId") Long userId);
+
+    // Creations and completions of live and archived tasks, counted the same way as TaskRollups
+    @Modifying
+    @Query(value = "INSERT INTO task_daily_rollups (user_id, rollup_day, priority, created_count, completed_count) " +
+            "SELECT :userId, e.event_day, e.priority, SUM(e.created), SUM(e.completed) FROM (" +
+            "SELECT CAST(created_at AS DATE) AS event_day, COALESCE(priority, 0) AS priority, 1 AS created, 0 AS completed " +
+            "FROM tasks WHERE user_id = :userId " +
+            "UNION ALL SELECT CAST(created_at AS DATE), COALESCE(priority, 0), 1, 0 " +
+            "FROM tasks_archive WHERE user_id = :userId " +
+            "UNION ALL SELECT CAST(completed_at AS DATE), COALESCE(priority, 0), 0, 1 " +
+            "FROM tasks WHERE user_id = :userId AND status = 3 AND completed_at IS NOT NULL " +
+            "UNION ALL SELECT CAST(completed_at AS DATE), COALESCE(priority, 0), 0, 1 " +
+            "FROM tasks_archive WHERE user_id = :userId AND status = 3 AND completed_at IS NOT NULL" +
+            ") e GROUP BY e.event_day, e.priority", nativeQuery = true)
+    int rebuildDaily(@Param("userId") Long userId);
+
+    // Bucket bounds in minutes must match TaskRollups.LatencyBucket
+    @Modifying
+    @Query(value = "INSERT INTO task_latency_rollups (user_id, bucket, task_count) " +
+            "SELECT :userId, l.bucket, COUNT(*) FROM (" +
+            "SELECT CASE WHEN m.minutes < 60 THEN 0 WHEN m.minutes < 1440 THEN 1 WHEN m.minutes < 4320 THEN 2 " +
+            "WHEN m.minutes < 10080 THEN 3 WHEN m.minutes < 43200 THEN 4 ELSE 5 END AS bucket FROM (" +
+            "SELECT TIMESTAMPDIFF(MINUTE, created_at, completed_at) AS minutes FROM tasks " +
+            "WHERE user_id = :userId AND status = 3 AND created_at IS NOT NULL AND completed_at IS NOT NULL " +
+            "UNION ALL SELECT TIMESTAMPDIFF(MINUTE, created_at, completed_at) FROM tasks_archive " +
+            "WHERE user_id = :userId AND status = 3 AND created_at IS NOT NULL AND completed_at IS NOT NULL" +
+            ") m) l GROUP BY l.bucket", nativeQuery = true)
+    int rebuildLatency(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(l) FROM TaskLatencyRollup l")
+    long countLatency();
+}
@@ -0,0 +1,17 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Count-free paging for Task queries, mixed into TaskRepository.
+ *
+ * A Slice reads pageSize + 1 rows to learn whether a next page exists, so unlike
+ * findAll(spec, pageable) no second COUNT(*) query is issued.
+ */
+public interface TaskSliceRepository {
+
+    Slice<Task> findSlice(Specification<Task> spec, Pageable pageable);
+}
@@ -0,0 +1,63 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Reusable query predicates for Task, combined with Specification#and
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {}
+
+    public static Specification<Task> belongsTo(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> titleContains(String keyword) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), "%" + keyword.toLowerCase(Locale.ROOT) + "%");
+    }
+
+    public static Specification<Task> isNot(TaskStatus status) {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    public static Specification<Task> dueOn(LocalDate date) {
+        return (root, query, cb) -> cb.equal(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+}
@@ -0,0 +1,29 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.TaskVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskVersionRepository extends JpaRepository<TaskVersion, Long> {
+
+    // One round trip whether or not the owner has a row yet; joins the caller's transaction
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_versions (owner_id, version) VALUES (:ownerId, 1) "
+            + "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int bump(@Param("ownerId") Long ownerId);
+
+    @Query("SELECT v.version FROM TaskVersion v WHERE v.ownerId = :ownerId")
+    Optional<Long> findVersion(@Param("ownerId") Long ownerId);
+
+    // Every row only grows, so the sum moves on any task write
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM TaskVersion v")
+    long sumVersions();
+}
@@ -0,0 +1,267 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory reminder queue for open tasks with an upcoming due date.
+ *
+ * Reminders are ordered by fire time in a skip list (O(log n) insert/remove) with
+ * an id index for rescheduling. The tasks table is read once at startup, walking it
+ * by id; afterwards the task change pipeline keeps the queue current. A single
+ * thread sleeps until the earliest reminder is due and publishes a TaskReminderEvent.
+ *
+ * The startup load runs while the pipeline already delivers writes, so it never
+ * replaces a reminder the pipeline has set, and a loaded row can be stale (the
+ * task was deleted or finished meanwhile). The task is therefore re-read before
+ * its reminder fires.
+ */
+@Service
+public class ReminderScheduler implements TaskChangeConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.reminders.enabled:true}")
+    private boolean enabled;
+
+    // Time of day on the due date at which the reminder fires
+    @Value("${app.reminders.time-of-day:09:00}")
+    private LocalTime timeOfDay;
+
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final ConcurrentSkipListSet<Reminder> queue = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Reminder::fireAt).thenComparingLong(Reminder::taskId));
+    private final ConcurrentMap<Long, Reminder> byTaskId = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition headChanged = lock.newCondition();
+
+    private volatile Thread worker;
+
+    // ==================== LIFECYCLE ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        load();
+        worker = new Thread(this::run, "task-reminders");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Drop every reminder and load them again from the tasks table
+     */
+    @Override
+    public void resync() {
+        byTaskId.clear();
+        queue.clear();
+        load();
+        signal();
+    }
+
+    private void load() {
+        long now = System.currentTimeMillis();
+        long lastId = 0L;
+        long loaded = 0L;
+        List<Object[]> batch;
+        do {
+            batch = taskRepository.findReminderCandidates(LocalDate.now(zone), lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                Long taskId = (Long) row[0];
+                long fireAt = fireAt((LocalDate) row[2]);
+                // Reminders whose time already passed before startup were due while we were down
+                if (fireAt > now && putIfAbsent(new Reminder(taskId, (Long) row[1], (LocalDate) row[2], fireAt))) {
+                    loaded++;
+                }
+                lastId = taskId;
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Reminder queue loaded with {} upcoming tasks", loaded);
+    }
+
+    // ==================== QUEUE MAINTENANCE ====================
+
+    @Override
+    public String getConsumerName() {
+        return "reminders";
+    }
+
+    /**
+     * Add, move or drop reminders for committed task writes
+     */
+    @Override
+    public void onTaskChanges(List<TaskChange> changes) {
+        for (TaskChange change : changes) {
+            if (change.getTaskId() != null) {
+                schedule(change);
+            }
+        }
+    }
+
+    private void schedule(TaskChange change) {
+        if (change.isRemoval() || change.getStatus() == TaskStatus.DONE
+                || change.getDueDate() == null || change.getUserId() == null) {
+            cancel(change.getTaskId());
+            return;
+        }
+        long fireAt = fireAt(change.getDueDate());
+        if (fireAt <= System.currentTimeMillis()) {
+            cancel(change.getTaskId());
+            return;
+        }
+        put(new Reminder(change.getTaskId(), change.getUserId(), change.getDueDate(), fireAt));
+    }
+
+    public void cancel(Long taskId) {
+        Reminder removed = byTaskId.remove(taskId);
+        if (removed != null) {
+            queue.remove(removed);
+        }
+    }
+
+    public int size() {
+        return byTaskId.size();
+    }
+
+    void put(Reminder reminder) {
+        Reminder previous = byTaskId.put(reminder.taskId(), reminder);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        queue.add(reminder);
+        // Wake the worker only if this reminder is now the earliest one
+        if (head() == reminder) {
+            signal();
+        }
+    }
+
+    // Loaded rows may be older than what the pipeline already delivered for the task
+    private boolean putIfAbsent(Reminder reminder) {
+        if (byTaskId.putIfAbsent(reminder.taskId(), reminder) != null) {
+            return false;
+        }
+        queue.add(reminder);
+        if (head() == reminder) {
+            signal();
+        }
+        return true;
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            headChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Reminder head() {
+        try {
+            return queue.first();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private long fireAt(LocalDate dueDate) {
+        return dueDate.atTime(timeOfDay).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    // ==================== FIRING ====================
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Reminder next = awaitNext();
+                // Only fire if the reminder was not cancelled or moved in the meantime
+                if (byTaskId.remove(next.taskId(), next) && isStillDue(next)) {
+                    eventPublisher.publishEvent(new TaskReminderEvent(next.taskId(), next.userId(), next.dueDate()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Reminder listener failed", e);
+            }
+        }
+    }
+
+    // The task still exists, is open and has the same owner and due date
+    private boolean isStillDue(Reminder reminder) {
+        List<Object[]> rows = taskRepository.findReminderState(reminder.taskId());
+        if (rows.isEmpty()) {
+            return false;
+        }
+        Object[] row = rows.get(0);
+        return reminder.userId().equals(row[0]) && reminder.dueDate().equals(row[1]) && row[2] != TaskStatus.DONE;
+    }
+
+    private Reminder awaitNext() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                Reminder head = head();
+                if (head == null) {
+                    headChanged.await();
+                    continue;
+                }
+                long delay = head.fireAt() - System.currentTimeMillis();
+                if (delay <= 0) {
+                    if (queue.remove(head)) {
+                        return head;
+                    }
+                    continue;
+                }
+                headChanged.await(delay, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record Reminder(Long taskId, Long userId, LocalDate dueDate, long fireAt) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.repository.ArchivedTaskRepository;
+import com.TaskReminder.app.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves DONE tasks completed more than app.archive.min-age ago from tasks into
+ * tasks_archive, so list, count and index scans only see live rows.
+ *
+ * Each batch (lock, copy, delete, bump owner versions) is its own short transaction,
+ * and the archiver pauses between batches and stops after a bounded number per
+ * run, so a large backlog drains over several runs without holding locks or
+ * starving request traffic. Reports and history read both tables.
+ */
+@Service
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Autowired
+    private UserTaskStats userTaskStats;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.min-age:90d}")
+    private Duration minAge;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.batch-pause:200ms}")
+    private Duration batchPause;
+
+    @Value("${app.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    private final TransactionTemplate transaction;
+
+    private Counter archivedCounter;
+
+    public TaskArchiver(PlatformTransactionManager transactionManager) {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        archivedCounter = Counter.builder("tasks.archived")
+                .description("Completed tasks moved to tasks_archive")
+                .register(meterRegistry);
+    }
+
+    // ==================== SCHEDULED RUN ====================
+
+    @Scheduled(initialDelayString = "${app.archive.initial-delay:PT5M}", fixedDelayString = "${app.archive.interval:PT1H}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int archived = archiveCompletedBefore(LocalDateTime.now().minus(minAge));
+            if (archived > 0) {
+                log.info("Archived {} completed tasks", archived);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Archive DONE tasks completed before the cutoff, batch by batch, up to the
+     * per-run limit; returns the number of tasks moved
+     */
+    public int archiveCompletedBefore(LocalDateTime cutoff) throws InterruptedException {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (batch > 0 && !batchPause.isZero()) {
+                Thread.sleep(batchPause.toMillis());
+            }
+            int moved = archiveBatch(cutoff);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // ==================== ONE BATCH ====================
+
+    private record Batch(List<Long> taskIds, Set<Long> ownerIds) {}
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        Batch batch = transaction.execute(status -> {
+            // Locked rows cannot be reopened or edited until this transaction ends
+            List<Object[]> rows = taskRepository.findArchivableForUpdate(cutoff, PageRequest.of(0, batchSize));
+            List<Long> ids = new ArrayList<>(rows.size());
+            Set<Long> owners = new LinkedHashSet<>();
+            for (Object[] row : rows) {
+                ids.add((Long) row[0]);
+                if (row[1] != null) {
+                    owners.add((Long) row[1]);
+                }
+            }
+            if (ids.isEmpty()) {
+                return new Batch(ids, owners);
+            }
+            // Copy and delete repeat the predicate; if either misses a row, move nothing
+            int copied = archivedTaskRepository.copyFromTasks(ids, TaskStatus.DONE.getCode(), cutoff,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            int deleted = taskRepository.deleteArchivable(ids, cutoff);
+            if (copied != ids.size() || deleted != ids.size()) {
+                throw new IllegalStateException("Archive batch of " + ids.size() + " tasks changed while moving ("
+                        + copied + " copied, " + deleted + " deleted)");
+            }
+            // Owner versions move with the rows, so their ETags and cached totals go stale
+            owners.forEach(taskVersionTracker::bumpOwner);
+            return new Batch(ids, owners);
+        });
+        if (batch.taskIds().isEmpty()) {
+            return 0;
+        }
+        // In-memory views are only touched once the move has committed
+        batch.ownerIds().forEach(userTaskStats::evictUser);
+        taskChangePipeline.publishAll(batch.taskIds().stream().map(TaskChange::archived).toList());
+        archivedCounter.increment(batch.taskIds().size());
+        return batch.taskIds().size();
+    }
+}
@@ -0,0 +1,85 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * One committed task write, as published by TaskChangePipeline.
+ *
+ * Carries a copy of the fields derived views need, so consumers never touch
+ * the (possibly detached or since modified) entity on their own threads.
+ * Removed tasks (deleted or archived) only carry their id and owner.
+ *
+ * Each change carries the owner's TaskVersionTracker version reached by its
+ * transaction. Changes are appended after commit, so two writers can enqueue in
+ * the opposite order to their commits; the version tells the older one apart.
+ */
+public class TaskChange {
+
+    public enum Type { CREATED, UPDATED, DELETED, ARCHIVED }
+
+    private final Type type;
+    private final Long taskId;
+    private final Long userId;
+    private final String title;
+    private final String description;
+    private final LocalDate dueDate;
+    private final TaskStatus status;
+    private final long version;
+
+    private TaskChange(Type type, Long taskId, Long userId, String title, String description,
+                       LocalDate dueDate, TaskStatus status, long version) {
+        this.type = type;
+        this.taskId = taskId;
+        this.userId = userId;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.version = version;
+    }
+
+    /**
+     * @param version the owner's task version after the writing transaction
+     */
+    public static TaskChange saved(Task task, boolean created, long version) {
+        return new TaskChange(created ? Type.CREATED : Type.UPDATED, task.getId(), ownerId(task),
+                task.getTitle(), task.getDescription(), task.getDueDate(), task.getTaskStatus(), version);
+    }
+
+    public static TaskChange deleted(Task task, long version) {
+        return new TaskChange(Type.DELETED, task.getId(), ownerId(task), null, null, null, null, version);
+    }
+
+    // Removals are final, so an archived task needs no version to win over older changes
+    public static TaskChange archived(Long taskId) {
+        return new TaskChange(Type.ARCHIVED, taskId, null, null, null, null, null, Long.MAX_VALUE);
+    }
+
+    private static Long ownerId(Task task) {
+        return task.getUser() != null ? task.getUser().getId() : null;
+    }
+
+    /**
+     * True if the task no longer exists in the tasks table
+     */
+    public boolean isRemoval() {
+        return type == Type.DELETED || type == Type.ARCHIVED;
+    }
+
+    public Type getType() { return type; }
+    public Long getTaskId() { return taskId; }
+    public Long getUserId() { return userId; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public LocalDate getDueDate() { return dueDate; }
+    public TaskStatus getStatus() { return status; }
+    public long getVersion() { return version; }
+
+    @Override
+    public String toString() {
+        return "TaskChange{type=" + type + ", taskId=" + taskId + ", userId=" + userId + ", version=" + version + "}";
+    }
+}
@@ -0,0 +1,29 @@
+package com.TaskReminder.app.service;
+
+import java.util.List;
+
+/**
+ * A derived view fed by TaskChangePipeline. Every bean implementing this gets
+ * its own thread and position in the ring buffer.
+ */
+public interface TaskChangeConsumer {
+
+    /**
+     * Short name used for the consumer's thread and metric tags
+     */
+    String getConsumerName();
+
+    /**
+     * Apply committed changes in publication order. Called from the consumer's
+     * thread only; a batch holds every change published since the last call,
+     * up to app.tasks.events.max-batch-size. Changes older than one already
+     * delivered for the same task are filtered out by the pipeline.
+     */
+    void onTaskChanges(List<TaskChange> changes);
+
+    /**
+     * Rebuild the whole view from the database. Called from the consumer's
+     * thread when a batch still fails after its retries.
+     */
+    void resync();
+}
@@ -0,0 +1,385 @@
+package com.TaskReminder.app.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers committed task writes to the derived views (TaskChangeConsumer beans)
+ * off the request thread.
+ *
+ * Writers publish TaskChange events; inside a transaction they are held until
+ * it commits and dropped if it rolls back, so consumers only ever see stored
+ * state. Events go into a bounded TaskChangeRingBuffer, and each consumer has a
+ * thread that drains everything published since its last pass as one batch,
+ * so a burst of writes costs one index refresh instead of one per task. The
+ * request thread only pays for the ring append, however many views subscribe;
+ * it only waits if the buffer is full, which is measured as
+ * task.events.publish.wait.
+ *
+ * Transactions append after they commit, so two writers touching the same task
+ * can enqueue in the opposite order; each consumer skips a change whose version
+ * is older than the last one it was handed for that task. A batch that throws
+ * is retried with backoff, and if it keeps failing the consumer is resynced
+ * from the database instead of silently losing the batch.
+ *
+ * Task versions and report rollups are written in the writer's transaction,
+ * and the per-user counters are adjusted on the writing thread right after
+ * commit, so all three are exact for the next request.
+ */
+@Service
+public class TaskChangePipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangePipeline.class);
+
+    // Upper bound on how long an idle consumer sleeps before re-checking the buffer
+    private static final long IDLE_WAIT_MILLIS = 100L;
+
+    // Longest pause between attempts to resync a consumer whose resync keeps failing
+    private static final long MAX_RESYNC_BACKOFF_MILLIS = 30_000L;
+
+    // Tasks whose last delivered version each consumer remembers, least recently written dropped first
+    private static final int TRACKED_TASKS = 65_536;
+
+    @Autowired(required = false)
+    private List<TaskChangeConsumer> consumers = List.of();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Rounded up to a power of two
+    @Value("${app.tasks.events.buffer-size:8192}")
+    private int bufferSize;
+
+    @Value("${app.tasks.events.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${app.tasks.events.shutdown-timeout:PT10S}")
+    private Duration shutdownTimeout;
+
+    // Attempts per batch before the consumer is resynced; the pause doubles after each failure
+    @Value("${app.tasks.events.retry-attempts:3}")
+    private int retryAttempts;
+
+    @Value("${app.tasks.events.retry-backoff:PT0.1S}")
+    private Duration retryBackoff;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition publishedCondition = lock.newCondition();
+    // Consumers parked on publishedCondition; producers only take the lock when this is non-zero
+    private final AtomicInteger sleepers = new AtomicInteger();
+
+    private TaskChangeRingBuffer ring;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private Counter publishedCounter;
+    private Timer publishWait;
+
+    // ==================== LIFECYCLE ====================
+
+    @PostConstruct
+    public void start() {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        ring = new TaskChangeRingBuffer(capacity, consumers.size());
+
+        publishedCounter = Counter.builder("task.events.published")
+                .description("Task changes published to the change pipeline")
+                .register(meterRegistry);
+        publishWait = Timer.builder("task.events.publish.wait")
+                .description("Time writers waited for room in a full change buffer")
+                .register(meterRegistry);
+        Gauge.builder("task.events.buffer.remaining", ring, TaskChangeRingBuffer::remainingCapacity)
+                .description("Free slots in the change buffer (behind the slowest consumer)")
+                .register(meterRegistry);
+
+        running = true;
+        for (int i = 0; i < consumers.size(); i++) {
+            TaskChangeConsumer consumer = consumers.get(i);
+            AtomicLong sequence = ring.consumerSequence(i);
+            Gauge.builder("task.events.consumer.lag", ring, r -> r.cursor() - sequence.get())
+                    .description("Published task changes the consumer has not handled yet")
+                    .tag("consumer", consumer.getConsumerName())
+                    .register(meterRegistry);
+            Thread worker = new Thread(() -> drain(consumer, sequence), "task-changes-" + consumer.getConsumerName());
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Task change pipeline started with {} slots for {} consumers", capacity, consumers.size());
+    }
+
+    /**
+     * Let the consumers finish what was published, then stop them
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!awaitDrained(shutdownTimeout)) {
+            log.warn("Task change consumers did not catch up within {}", shutdownTimeout);
+        }
+        running = false;
+        wakeConsumers();
+        for (Thread worker : workers) {
+            worker.join(shutdownTimeout.toMillis());
+        }
+    }
+
+    // ==================== PUBLISHING ====================
+
+    public void publish(TaskChange change) {
+        publishAll(List.of(change));
+    }
+
+    /**
+     * Publish changes in order: after the current transaction commits, or right
+     * away when there is none
+     */
+    public void publishAll(Collection<TaskChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().addAll(changes);
+        } else {
+            append(changes);
+        }
+    }
+
+    // One list per transaction, appended to the ring in a single pass on commit
+    @SuppressWarnings("unchecked")
+    private List<TaskChange> pendingChanges() {
+        List<TaskChange> pending = (List<TaskChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TaskChange> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangePipeline.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+
+    private void append(Collection<TaskChange> changes) {
+        for (TaskChange change : changes) {
+            long waited = ring.publish(change);
+            if (waited > 0) {
+                publishWait.record(waited, TimeUnit.NANOSECONDS);
+            }
+        }
+        publishedCounter.increment(changes.size());
+        if (sleepers.get() > 0) {
+            wakeConsumers();
+        }
+    }
+
+    private void wakeConsumers() {
+        lock.lock();
+        try {
+            publishedCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== CONSUMING ====================
+
+    private void drain(TaskChangeConsumer consumer, AtomicLong sequence) {
+        String name = consumer.getConsumerName();
+        DistributionSummary batchSizes = DistributionSummary.builder("task.events.batch.size")
+                .description("Task changes handed to the consumer per call")
+                .tag("consumer", name)
+                .register(meterRegistry);
+        Counter failures = Counter.builder("task.events.consumer.failures")
+                .description("Attempts at applying a batch that threw")
+                .tag("consumer", name)
+                .register(meterRegistry);
+        Counter resyncs = Counter.builder("task.events.consumer.resyncs")
+                .description("Full rebuilds of the consumer's view after a batch kept failing")
+                .tag("consumer", name)
+                .register(meterRegistry);
+
+        LatestVersions latest = new LatestVersions();
+        List<TaskChange> batch = new ArrayList<>(maxBatchSize);
+        boolean outOfSync = false;
+        long resyncBackoff = retryBackoff.toMillis();
+        long nextResyncAt = 0L;
+        while (true) {
+            long next = sequence.get() + 1;
+            long available = ring.highestPublished(next, next + maxBatchSize - 1);
+            if (available < next) {
+                if (!running) {
+                    return;
+                }
+                awaitPublication(next);
+                continue;
+            }
+            for (long s = next; s <= available; s++) {
+                TaskChange change = ring.get(s);
+                if (latest.accept(change)) {
+                    batch.add(change);
+                }
+            }
+
+            if (outOfSync && System.currentTimeMillis() >= nextResyncAt) {
+                outOfSync = !resync(consumer, resyncs);
+                resyncBackoff = outOfSync ? Math.min(resyncBackoff * 2, MAX_RESYNC_BACKOFF_MILLIS) : retryBackoff.toMillis();
+                nextResyncAt = System.currentTimeMillis() + resyncBackoff;
+            }
+            // While a resync is pending the batch is skipped: the resync reads it back from the database
+            if (!outOfSync && !batch.isEmpty() && !apply(consumer, batch, failures)) {
+                outOfSync = !resync(consumer, resyncs);
+                nextResyncAt = System.currentTimeMillis() + resyncBackoff;
+            }
+            batchSizes.record(batch.size());
+            batch.clear();
+            sequence.set(available);
+        }
+    }
+
+    // Try the batch up to retryAttempts times, doubling the pause after each failure
+    private boolean apply(TaskChangeConsumer consumer, List<TaskChange> batch, Counter failures) {
+        long backoff = retryBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                consumer.onTaskChanges(batch);
+                return true;
+            } catch (RuntimeException e) {
+                failures.increment();
+                if (attempt >= retryAttempts || !running) {
+                    log.warn("Task change consumer {} failed on {} changes after {} attempts, resyncing",
+                            consumer.getConsumerName(), batch.size(), attempt, e);
+                    return false;
+                }
+                log.warn("Task change consumer {} failed on {} changes, retrying in {} ms",
+                        consumer.getConsumerName(), batch.size(), backoff, e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoff);
+            } catch (InterruptedException e) {
+                return false;
+            }
+            backoff *= 2;
+        }
+    }
+
+    private boolean resync(TaskChangeConsumer consumer, Counter resyncs) {
+        try {
+            consumer.resync();
+            resyncs.increment();
+            log.info("Task change consumer {} resynced from the database", consumer.getConsumerName());
+            return true;
+        } catch (RuntimeException e) {
+            // Later batches are skipped until a resync succeeds, so writers never stall behind it
+            log.warn("Task change consumer {} failed to resync, will try again", consumer.getConsumerName(), e);
+            return false;
+        }
+    }
+
+    private void awaitPublication(long next) {
+        lock.lock();
+        try {
+            sleepers.incrementAndGet();
+            try {
+                // Re-check after announcing ourselves, so a publish in between is not missed
+                if (running && ring.highestPublished(next, next) < next) {
+                    publishedCondition.await(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                sleepers.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            // Treated as a wake-up; the loop ends through running, not interrupts
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== STATE ====================
+
+    /**
+     * Wait until every consumer has handled what was published before the call;
+     * false if that did not happen within the timeout
+     */
+    public boolean awaitDrained(Duration timeout) throws InterruptedException {
+        long target = ring.cursor();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (int i = 0; i < consumers.size(); i++) {
+            AtomicLong sequence = ring.consumerSequence(i);
+            while (sequence.get() < target) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+        return true;
+    }
+
+    public long remainingCapacity() {
+        return ring.remainingCapacity();
+    }
+
+    /**
+     * Last version handed to one consumer per task, bounded to the most recently
+     * written tasks. A removal is final, so it is remembered as the highest version.
+     */
+    static class LatestVersions extends LinkedHashMap<Long, Long> {
+
+        LatestVersions() {
+            super(1024, 0.75f, true);
+        }
+
+        /**
+         * False for a change older than the last one accepted for its task.
+         * Changes from the same transaction share a version and all pass.
+         */
+        boolean accept(TaskChange change) {
+            if (change.getTaskId() == null) {
+                return true;
+            }
+            Long seen = get(change.getTaskId());
+            if (seen != null && change.getVersion() < seen) {
+                return false;
+            }
+            put(change.getTaskId(), change.isRemoval() ? Long.MAX_VALUE : change.getVersion());
+            return true;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > TRACKED_TASKS;
+        }
+    }
+}
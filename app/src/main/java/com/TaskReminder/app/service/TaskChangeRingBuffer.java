@@ -0,0 +1,143 @@
+package com.TaskReminder.app.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer ring of task changes, read independently by a fixed
+ * set of consumers (the LMAX Disruptor layout, without the library).
+ *
+ * Producers claim a sequence with a CAS on the cursor, fill the slot and then
+ * mark it published with the slot's round number; consumers read every
+ * contiguous published slot after their own sequence. A producer that would
+ * overwrite a slot the slowest consumer has not passed yet spins until it
+ * moves, so nothing is dropped and a stalled consumer shows up as publish
+ * wait time. No locks are taken on either side.
+ */
+final class TaskChangeRingBuffer {
+
+    private static final long FULL_PARK_NANOS = 1_000L;
+
+    private final int capacity;
+    private final int mask;
+    private final int shift;
+    private final AtomicReferenceArray<TaskChange> entries;
+    // Round (sequence / capacity) in which each slot was last published
+    private final AtomicIntegerArray published;
+    // Highest claimed sequence
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Last sequence each consumer has handled
+    private final AtomicLong[] consumerSequences;
+    // Slowest consumer position last seen by a producer, refreshed only near the wrap point
+    private volatile long gatingCache = -1;
+
+    TaskChangeRingBuffer(int capacity, int consumers) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.published = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.consumerSequences = new AtomicLong[consumers];
+        for (int i = 0; i < consumers; i++) {
+            consumerSequences[i] = new AtomicLong(-1);
+        }
+    }
+
+    // ==================== PRODUCERS ====================
+
+    /**
+     * Append a change, waiting while the buffer is full; returns the nanoseconds
+     * spent waiting (0 if there was room)
+     */
+    long publish(TaskChange change) {
+        long waitStart = 0L;
+        long current;
+        long next;
+        while (true) {
+            current = cursor.get();
+            next = current + 1;
+            long wrapPoint = next - capacity;
+            if (wrapPoint > gatingCache) {
+                long slowest = slowestConsumer(current);
+                gatingCache = slowest;
+                if (wrapPoint > slowest) {
+                    if (waitStart == 0L) {
+                        waitStart = System.nanoTime();
+                    }
+                    LockSupport.parkNanos(FULL_PARK_NANOS);
+                    continue;
+                }
+            }
+            if (cursor.compareAndSet(current, next)) {
+                break;
+            }
+        }
+        int index = index(next);
+        entries.set(index, change);
+        published.set(index, round(next));
+        return waitStart == 0L ? 0L : System.nanoTime() - waitStart;
+    }
+
+    // ==================== CONSUMERS ====================
+
+    /**
+     * Highest sequence in [from, limit] up to which every slot is published,
+     * or from - 1 if the slot at from is not published yet
+     */
+    long highestPublished(long from, long limit) {
+        long upTo = Math.min(limit, cursor.get());
+        for (long sequence = from; sequence <= upTo; sequence++) {
+            if (published.get(index(sequence)) != round(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return upTo;
+    }
+
+    TaskChange get(long sequence) {
+        return entries.get(index(sequence));
+    }
+
+    AtomicLong consumerSequence(int consumer) {
+        return consumerSequences[consumer];
+    }
+
+    // ==================== STATE ====================
+
+    long cursor() {
+        return cursor.get();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long remainingCapacity() {
+        long current = cursor.get();
+        return capacity - (current - slowestConsumer(current));
+    }
+
+    private long slowestConsumer(long fallback) {
+        long slowest = fallback;
+        for (AtomicLong sequence : consumerSequences) {
+            slowest = Math.min(slowest, sequence.get());
+        }
+        return slowest;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private int round(long sequence) {
+        return (int) (sequence >>> shift);
+    }
+}
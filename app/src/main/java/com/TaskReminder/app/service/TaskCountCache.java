@@ -0,0 +1,55 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached per-user totals for paged task views ("showing X-Y of Z").
+ *
+ * Keys include the user's TaskVersionTracker version, so any write to the user's
+ * tasks makes the old totals unreachable and the next view counts again; stale
+ * entries age out of the bounded cache.
+ */
+@Service
+public class TaskCountCache {
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Value("${app.tasks.count-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.tasks.count-cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Key, Long> cache;
+
+    private record Key(Long userId, long version, String query) {}
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Total for the user's query, counted once per task version
+     *
+     * @param query   stable description of the filter, including any date it depends on
+     * @param counter runs the COUNT query on a miss
+     */
+    public long count(User user, String query, LongSupplier counter) {
+        Key key = new Key(user.getId(), taskVersionTracker.versionOf(user), query);
+        return cache.get(key, k -> counter.getAsLong());
+    }
+}
@@ -0,0 +1,131 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset (seek) position: the sort key and id of the last task on a page.
+ *
+ * The next page is "rows ordered after (sortValue, id)", so it costs an index
+ * range scan no matter how deep the caller has scrolled. NULL sort values are
+ * treated as lower than any value, matching MySQL ordering (first when ascending,
+ * last when descending).
+ */
+public final class TaskCursor {
+
+    private static final String NULL_VALUE = "~";
+
+    public enum SortField {
+        CREATED_AT("createdAt", Task::getCreatedAt, LocalDateTime::parse),
+        DUE_DATE("dueDate", Task::getDueDate, LocalDate::parse),
+        PRIORITY("priority", Task::getTaskPriority, TaskPriority::valueOf),
+        TITLE("title", Task::getTitle, value -> value);
+
+        private final String property;
+        private final Function<Task, Comparable<?>> reader;
+        private final Function<String, Comparable<?>> parser;
+
+        SortField(String property, Function<Task, Comparable<?>> reader, Function<String, Comparable<?>> parser) {
+            this.property = property;
+            this.reader = reader;
+            this.parser = parser;
+        }
+
+        public String getProperty() { return property; }
+
+        public static SortField fromProperty(String property) {
+            for (SortField field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported keyset sort field: " + property);
+        }
+    }
+
+    private final SortField field;
+    private final boolean ascending;
+    private final Comparable<?> value;
+    private final long id;
+
+    private TaskCursor(SortField field, boolean ascending, Comparable<?> value, long id) {
+        this.field = field;
+        this.ascending = ascending;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Position right after the given task for the given ordering
+     */
+    public static TaskCursor after(Task task, SortField field, boolean ascending) {
+        return new TaskCursor(field, ascending, field.reader.apply(task), task.getId());
+    }
+
+    // ==================== ENCODING ====================
+
+    public String encode() {
+        String raw = field.name() + "|" + (ascending ? "a" : "d") + "|" + id + "|"
+                + (value == null ? NULL_VALUE : value.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            SortField field = SortField.valueOf(parts[0]);
+            boolean ascending = "a".equals(parts[1]);
+            long id = Long.parseLong(parts[2]);
+            Comparable<?> value = NULL_VALUE.equals(parts[3]) ? null : field.parser.apply(parts[3]);
+            return new TaskCursor(field, ascending, value, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public boolean matches(SortField field, boolean ascending) {
+        return this.field == field && this.ascending == ascending;
+    }
+
+    // ==================== SEEK PREDICATE ====================
+
+    /**
+     * Rows that come after this position in ORDER BY field [dir], id [dir]
+     */
+    public Specification<Task> seekAfter() {
+        return (root, query, cb) -> {
+            Path<Comparable<Object>> column = root.get(field.property);
+            Path<Long> idColumn = root.get("id");
+            Predicate sameValueNextId = ascending ? cb.greaterThan(idColumn, id) : cb.lessThan(idColumn, id);
+
+            if (value == null) {
+                // NULLs sort lowest: ascending continues into the non-null values, descending ends at NULLs
+                Predicate nullTail = cb.and(cb.isNull(column), sameValueNextId);
+                return ascending ? cb.or(nullTail, cb.isNotNull(column)) : nullTail;
+            }
+
+            Predicate sameValue = cb.and(cb.equal(column, value), sameValueNextId);
+            if (ascending) {
+                return cb.or(beyond(cb, column), sameValue);
+            }
+            return cb.or(beyond(cb, column), cb.isNull(column), sameValue);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate beyond(CriteriaBuilder cb, Path<Comparable<Object>> column) {
+        Comparable<Object> bound = (Comparable<Object>) value;
+        return ascending ? cb.greaterThan(column, bound) : cb.lessThan(column, bound);
+    }
+}
@@ -0,0 +1,147 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's tasks as NDJSON or CSV straight from a database cursor.
+ *
+ * Each row is written and then detached from the persistence context, so memory
+ * use stays flat regardless of how many tasks are exported. The driver fetch size
+ * (app.export.fetch-size) is set on the export query alone.
+ */
+@Service
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,dueDate,status,priority,createdAt,completedAt";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // ==================== NDJSON ====================
+
+    public void writeNdjson(User user, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        // One JSON document per line; flush only when the buffer fills, not per row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);  // lines are separated by '\n' below
+            forEachTask(user, from, to, task -> {
+                try {
+                    writer.writeValue(generator, task);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // ==================== CSV ====================
+
+    public void writeCsv(User user, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        forEachTask(user, from, to, task -> {
+            try {
+                writer.write(String.valueOf(task.getId()));
+                writer.write(',');
+                writer.write(csv(task.getTitle()));
+                writer.write(',');
+                writer.write(csv(task.getDescription()));
+                writer.write(',');
+                writer.write(csv(task.getDueDate()));
+                writer.write(',');
+                writer.write(csv(task.getStatus()));
+                writer.write(',');
+                writer.write(csv(task.getPriority()));
+                writer.write(',');
+                writer.write(csv(task.getCreatedAt()));
+                writer.write(',');
+                writer.write(csv(task.getCompletedAt()));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // ==================== STREAMING ====================
+
+    private void forEachTask(User user, LocalDate from, LocalDate to, Consumer<Task> rowWriter) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Task> tasks = streamTasks(user, from, to)) {
+                    tasks.forEach(task -> {
+                        rowWriter.accept(task);
+                        entityManager.detach(task);
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Read-only skips dirty-checking snapshots; must be consumed inside a transaction
+    private Stream<Task> streamTasks(User user, LocalDate from, LocalDate to) {
+        return entityManager.createQuery("SELECT t FROM Task t WHERE t.user = :user " +
+                        "AND (:from IS NULL OR t.dueDate >= :from) " +
+                        "AND (:to IS NULL OR t.dueDate <= :to) " +
+                        "ORDER BY t.id", Task.class)
+                .setParameter("user", user)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,29 @@
+package com.TaskReminder.app.service;
+
+import java.time.LocalDate;
+
+/**
+ * Published by ReminderScheduler when an open task reaches its reminder time.
+ * Listen with {@code @EventListener} to deliver the reminder (mail, push, ...).
+ */
+public class TaskReminderEvent {
+
+    private final Long taskId;
+    private final Long userId;
+    private final LocalDate dueDate;
+
+    public TaskReminderEvent(Long taskId, Long userId, LocalDate dueDate) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.dueDate = dueDate;
+    }
+
+    public Long getTaskId() { return taskId; }
+    public Long getUserId() { return userId; }
+    public LocalDate getDueDate() { return dueDate; }
+
+    @Override
+    public String toString() {
+        return "TaskReminderEvent{taskId=" + taskId + ", userId=" + userId + ", dueDate=" + dueDate + "}";
+    }
+}
@@ -0,0 +1,107 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.dto.TaskReport;
+import com.TaskReminder.app.entity.TaskDailyRollup;
+import com.TaskReminder.app.entity.TaskLatencyRollup;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.TaskRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds reports from the rollup tables (see TaskRollups) and the header counters,
+ * reading O(days) rollup rows instead of the user's tasks.
+ */
+@Service
+public class TaskReportService {
+
+    // Longest trend window accepted by /api/reports
+    public static final int MAX_DAYS = 366;
+
+    @Autowired
+    private TaskRollupRepository taskRollupRepository;
+
+    @Autowired
+    private UserTaskStats userTaskStats;
+
+    /**
+     * Report for a user with a daily trend over the last {@code days} days (including today)
+     */
+    public TaskReport getReport(User user, int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_DAYS);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1);
+        return build(user, from, today, dailyTrend(user, from, today), completionLatency(user));
+    }
+
+    /**
+     * Totals only, without trend or latency (the reports page cards and charts)
+     */
+    public TaskReport getSummary(User user) {
+        LocalDate today = LocalDate.now();
+        return build(user, today, today, List.of(), List.of());
+    }
+
+    private TaskReport build(User user, LocalDate from, LocalDate to,
+                             List<TaskReport.DayCounts> days, List<TaskReport.LatencyCount> latency) {
+        long total = 0;
+        long done = 0;
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (Object[] row : taskRollupRepository.sumByPriority(user.getId())) {
+            byte code = ((Number) row[0]).byteValue();
+            long created = ((Number) row[1]).longValue();
+            total += created;
+            done += ((Number) row[2]).longValue();
+            if (code != TaskDailyRollup.NO_PRIORITY) {
+                byPriority.merge(TaskPriority.fromCode(code), created, Long::sum);
+            }
+        }
+
+        UserTaskStats.Counts open = userTaskStats.getStats(user);
+        return new TaskReport(from, to, total, done,
+                open.getPending(), open.getInProgress(), open.getOverdue(), open.getDueToday(), open.getUpcoming(),
+                byPriority.getOrDefault(TaskPriority.HIGH, 0L),
+                byPriority.getOrDefault(TaskPriority.MEDIUM, 0L),
+                byPriority.getOrDefault(TaskPriority.LOW, 0L),
+                days, latency);
+    }
+
+    // One entry per day in [from, to], zero-filled; priorities are summed
+    private List<TaskReport.DayCounts> dailyTrend(User user, LocalDate from, LocalDate to) {
+        Map<LocalDate, long[]> byDay = new TreeMap<>();
+        for (TaskDailyRollup row : taskRollupRepository.findDailyFrom(user.getId(), from)) {
+            long[] counts = byDay.computeIfAbsent(row.getDay(), day -> new long[2]);
+            counts[0] += row.getCreatedCount();
+            counts[1] += row.getCompletedCount();
+        }
+        List<TaskReport.DayCounts> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            long[] counts = byDay.getOrDefault(day, new long[2]);
+            days.add(new TaskReport.DayCounts(day, counts[0], counts[1]));
+        }
+        return days;
+    }
+
+    // Every bucket in order, including empty ones
+    private List<TaskReport.LatencyCount> completionLatency(User user) {
+        Map<TaskRollups.LatencyBucket, Long> counts = new EnumMap<>(TaskRollups.LatencyBucket.class);
+        for (TaskLatencyRollup row : taskRollupRepository.findLatency(user.getId())) {
+            counts.put(TaskRollups.LatencyBucket.fromCode(row.getBucket()), (long) row.getTaskCount());
+        }
+        List<TaskReport.LatencyCount> latency = new ArrayList<>();
+        for (TaskRollups.LatencyBucket bucket : TaskRollups.LatencyBucket.values()) {
+            latency.add(new TaskReport.LatencyCount(bucket.getLabel(), counts.getOrDefault(bucket, 0L)));
+        }
+        return latency;
+    }
+}
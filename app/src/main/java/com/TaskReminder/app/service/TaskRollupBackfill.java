@@ -0,0 +1,102 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.repository.ArchivedTaskRepository;
+import com.TaskReminder.app.repository.TaskRepository;
+import com.TaskReminder.app.repository.TaskRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Rebuilds the reporting rollups from tasks and tasks_archive.
+ *
+ * Runs once at startup when the rollup tables are empty but tasks exist (first
+ * start after the V6 migration); can also be called to repair drift. Users are
+ * rebuilt one per transaction (delete, then INSERT ... SELECT grouped by day),
+ * walking the users table by id, so no long transaction holds the rollups.
+ * Each rebuild first bumps the user's task version. Writers take that row lock
+ * before touching the user's rollups, so a rebuild waits for writes in flight
+ * and holds back new ones until the rebuilt rows commit; traffic can keep
+ * running while it works through the users.
+ */
+@Service
+public class TaskRollupBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRollupBackfill.class);
+
+    private static final int USER_BATCH_SIZE = 500;
+
+    @Autowired
+    private TaskRollupRepository taskRollupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Value("${app.reports.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    private final TransactionTemplate transaction;
+
+    public TaskRollupBackfill(PlatformTransactionManager transactionManager) {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup || taskRollupRepository.count() > 0 || taskRollupRepository.countLatency() > 0) {
+            return;
+        }
+        if (taskRepository.count() == 0 && archivedTaskRepository.count() == 0) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        int users = backfillAll();
+        log.info("Backfilled report rollups for {} users in {} ms", users, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Rebuild the rollups of every user; returns the number of users processed
+     */
+    public int backfillAll() {
+        int users = 0;
+        Long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = taskRollupRepository.findUserIdsAfter(afterId, PageRequest.of(0, USER_BATCH_SIZE));
+            for (Long userId : ids) {
+                rebuild(userId);
+                afterId = userId;
+            }
+            users += ids.size();
+        } while (ids.size() == USER_BATCH_SIZE);
+        return users;
+    }
+
+    /**
+     * Replace one user's rollups with counts recomputed from both task tables
+     */
+    public void rebuild(Long userId) {
+        transaction.executeWithoutResult(status -> {
+            taskVersionTracker.bumpOwner(userId);
+            taskRollupRepository.deleteDaily(userId);
+            taskRollupRepository.deleteLatency(userId);
+            taskRollupRepository.rebuildDaily(userId);
+            taskRollupRepository.rebuildLatency(userId);
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskDailyRollup;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.repository.TaskRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the reporting rollups (task_daily_rollups, task_latency_rollups) in step
+ * with task writes.
+ *
+ * A task counts once as created on its creation day and, while it is DONE, once
+ * as completed on its completion day and once in its latency bucket. Writers
+ * describe a change as the task's snapshot before and after it; the difference is
+ * summed per rollup row and applied as upserts in the writer's transaction, so a
+ * batch costs one statement per touched row, not per task. Writers apply them
+ * after bumping the owner's task version, whose row lock TaskRollupBackfill also
+ * takes. Archiving moves rows between tables and leaves the rollups as they are.
+ */
+@Service
+public class TaskRollups {
+
+    @Autowired
+    private TaskRollupRepository taskRollupRepository;
+
+    /**
+     * Time from creation to completion. Bounds are in minutes and must match
+     * TaskRollupRepository#rebuildLatency; codes are persisted data.
+     */
+    public enum LatencyBucket {
+        UNDER_1_HOUR(0, "< 1 hour", 60),
+        UNDER_1_DAY(1, "1 hour - 1 day", 24 * 60),
+        UNDER_3_DAYS(2, "1 - 3 days", 3 * 24 * 60),
+        UNDER_1_WEEK(3, "3 - 7 days", 7 * 24 * 60),
+        UNDER_30_DAYS(4, "1 - 4 weeks", 30 * 24 * 60),
+        LONGER(5, "30+ days", Long.MAX_VALUE);
+
+        private final byte code;
+        private final String label;
+        private final long upperBoundMinutes;
+
+        LatencyBucket(int code, String label, long upperBoundMinutes) {
+            this.code = (byte) code;
+            this.label = label;
+            this.upperBoundMinutes = upperBoundMinutes;
+        }
+
+        public byte getCode() { return code; }
+        public String getLabel() { return label; }
+
+        public static LatencyBucket of(Duration latency) {
+            long minutes = latency.toMinutes();
+            for (LatencyBucket bucket : values()) {
+                if (minutes < bucket.upperBoundMinutes) {
+                    return bucket;
+                }
+            }
+            return LONGER;
+        }
+
+        public static LatencyBucket fromCode(byte code) {
+            for (LatencyBucket bucket : values()) {
+                if (bucket.code == code) {
+                    return bucket;
+                }
+            }
+            throw new IllegalArgumentException("Unknown latency bucket code: " + code);
+        }
+    }
+
+    /**
+     * What one task contributes to the rollups; null for tasks without an owner
+     */
+    public record Snapshot(Long userId, LocalDate createdDay, byte priority,
+                           LocalDate completedDay, LatencyBucket latency) {
+
+        public static Snapshot of(Task task) {
+            if (task == null || task.getUser() == null || task.getCreatedAt() == null) {
+                return null;
+            }
+            byte priority = task.getTaskPriority() != null ? task.getTaskPriority().getCode() : TaskDailyRollup.NO_PRIORITY;
+            boolean completed = task.getTaskStatus() == TaskStatus.DONE && task.getCompletedAt() != null;
+            return new Snapshot(task.getUser().getId(), task.getCreatedAt().toLocalDate(), priority,
+                    completed ? task.getCompletedAt().toLocalDate() : null,
+                    completed ? LatencyBucket.of(Duration.between(task.getCreatedAt(), task.getCompletedAt())) : null);
+        }
+    }
+
+    private record DailyKey(Long userId, LocalDate day, byte priority) {}
+
+    private record LatencyKey(Long userId, byte bucket) {}
+
+    // Rows are upserted in key order, so concurrent writers lock them in the same order
+    private static final Comparator<DailyKey> DAILY_ORDER = Comparator.comparing(DailyKey::userId)
+            .thenComparing(DailyKey::day).thenComparing(DailyKey::priority);
+    private static final Comparator<LatencyKey> LATENCY_ORDER = Comparator.comparing(LatencyKey::userId)
+            .thenComparing(LatencyKey::bucket);
+
+    // ==================== WRITE NOTIFICATIONS ====================
+
+    public void recordCreated(Collection<Task> tasks) {
+        apply(List.of(), tasks.stream().map(Snapshot::of).toList());
+    }
+
+    public void recordDeleted(Collection<Task> tasks) {
+        apply(tasks.stream().map(Snapshot::of).toList(), List.of());
+    }
+
+    /**
+     * A task changed from the given snapshot (null if it did not exist) to its current state
+     */
+    public void recordChanged(Snapshot before, Task after) {
+        apply(Collections.singletonList(before), Collections.singletonList(Snapshot.of(after)));
+    }
+
+    /**
+     * Subtract the removed snapshots, add the added ones; null entries are skipped
+     */
+    public void apply(Collection<Snapshot> removed, Collection<Snapshot> added) {
+        Map<DailyKey, int[]> daily = new TreeMap<>(DAILY_ORDER);
+        Map<LatencyKey, Integer> latency = new TreeMap<>(LATENCY_ORDER);
+        removed.forEach(snapshot -> add(daily, latency, snapshot, -1));
+        added.forEach(snapshot -> add(daily, latency, snapshot, 1));
+
+        daily.forEach((key, counts) -> {
+            if (counts[0] != 0 || counts[1] != 0) {
+                taskRollupRepository.addDaily(key.userId(), key.day(), key.priority(), counts[0], counts[1]);
+            }
+        });
+        latency.forEach((key, count) -> {
+            if (count != 0) {
+                taskRollupRepository.addLatency(key.userId(), key.bucket(), count);
+            }
+        });
+    }
+
+    private static void add(Map<DailyKey, int[]> daily, Map<LatencyKey, Integer> latency, Snapshot snapshot, int sign) {
+        if (snapshot == null) {
+            return;
+        }
+        daily.computeIfAbsent(new DailyKey(snapshot.userId(), snapshot.createdDay(), snapshot.priority()),
+                key -> new int[2])[0] += sign;
+        if (snapshot.completedDay() != null) {
+            daily.computeIfAbsent(new DailyKey(snapshot.userId(), snapshot.completedDay(), snapshot.priority()),
+                    key -> new int[2])[1] += sign;
+            latency.merge(new LatencyKey(snapshot.userId(), snapshot.latency().getCode()), sign, Integer::sum);
+        }
+    }
+}
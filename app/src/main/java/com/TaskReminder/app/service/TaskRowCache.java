@@ -0,0 +1,87 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rendered HTML of task table rows (fragments/task-row.html), keyed by task id,
+ * updatedAt and locale.
+ *
+ * Every task write moves updatedAt, so a changed task simply misses and is
+ * re-rendered; unchanged rows are spliced into tasks.html without running the
+ * template. Old versions are never looked up again and fall out of the cache,
+ * which is bounded by the size of the stored HTML.
+ */
+@Service
+public class TaskRowCache {
+
+    private static final String TEMPLATE = "fragments/task-row";
+    private static final Set<String> FRAGMENT = Set.of("row");
+
+    // Rough per-entry cost of the key and map node on top of the HTML itself
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    @Autowired
+    private SpringTemplateEngine templateEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.tasks.row-cache.max-size:16MB}")
+    private DataSize maxSize;
+
+    private Cache<Key, String> cache;
+
+    private record Key(Long taskId, LocalDateTime updatedAt, Locale locale) {}
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, String html) -> ENTRY_OVERHEAD_BYTES + 2 * html.length())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "task.rows");
+    }
+
+    /**
+     * HTML of the task's table row, rendered once per task version and locale
+     */
+    public String render(Task task, Locale locale) {
+        if (task.getId() == null || task.getUpdatedAt() == null) {
+            return renderRow(task, locale);
+        }
+        return cache.get(new Key(task.getId(), task.getUpdatedAt(), locale), key -> renderRow(task, locale));
+    }
+
+    // Runs the fragment against the current request so @{...} links resolve as in the page
+    private String renderRow(Task task, Locale locale) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = attributes.getResponse();
+        WebContext context = new WebContext(
+                JakartaServletWebApplication.buildApplication(request.getServletContext()).buildExchange(request, response),
+                locale, Map.of("task", task));
+        return templateEngine.process(TEMPLATE, FRAGMENT, context);
+    }
+}
@@ -0,0 +1,378 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexNotFoundException;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Embedded Lucene index over task title and description.
+ *
+ * Kept in sync by the task change pipeline (one refresh per batch of committed
+ * writes). A clean shutdown stamps the final commit with the global task
+ * version; commits made while running carry no stamp, since changes may still be
+ * queued for the index. At startup the index is rebuilt from the database unless
+ * that stamp matches the current version and the document count matches the
+ * tasks table, which catches edits missed before a crash as well as added or
+ * removed rows.
+ * Searches are always filtered to one user and ranked by relevance
+ * (title matches weigh more than description matches).
+ */
+@Service
+public class TaskSearchIndex implements TaskChangeConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_USER = "userId";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+
+    // Commit user data key holding the global task version the index matched at shutdown
+    private static final String COMMIT_TASK_VERSION = "taskVersion";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    // Empty directory setting keeps the index in memory (used by tests)
+    @Value("${app.search.index-dir:}")
+    private String indexDir;
+
+    @Value("${app.search.commit-interval-seconds:10}")
+    private long commitIntervalSeconds;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService committer;
+
+    // ==================== LIFECYCLE ====================
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (indexDir == null || indexDir.isBlank()) {
+            directory = new ByteBuffersDirectory();
+        } else {
+            Path path = Path.of(indexDir);
+            Files.createDirectories(path);
+            directory = FSDirectory.open(path);
+        }
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+
+        // Writes are visible immediately through NRT refresh; durable commits are batched
+        committer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "task-search-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        committer.scheduleWithFixedDelay(this::commitIfDirty,
+                commitIntervalSeconds, commitIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfOutOfSync() {
+        Long committed = committedTaskVersion();
+        long current = taskVersionTracker.globalVersion();
+        if (committed == null || committed != current) {
+            log.info("Search index was committed at task version {} but tasks are at {}, rebuilding", committed, current);
+            rebuild();
+            return;
+        }
+        long indexed = writer.getDocStats().numDocs;
+        long stored = taskRepository.count();
+        if (indexed != stored) {
+            log.info("Search index has {} documents but {} tasks are stored, rebuilding", indexed, stored);
+            rebuild();
+        }
+    }
+
+    // The pipeline has drained into the index before it is destroyed, so the version is exact here
+    @PreDestroy
+    public void close() throws IOException {
+        committer.shutdownNow();
+        commitWithTaskVersion();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+
+    @Override
+    public String getConsumerName() {
+        return "search";
+    }
+
+    /**
+     * Apply a batch of committed changes with a single searcher refresh
+     */
+    @Override
+    public synchronized void onTaskChanges(List<TaskChange> changes) {
+        try {
+            for (TaskChange change : changes) {
+                if (change.getTaskId() == null) {
+                    continue;
+                }
+                if (change.isRemoval()) {
+                    writer.deleteDocuments(idTerm(change.getTaskId()));
+                } else {
+                    writer.updateDocument(idTerm(change.getTaskId()), toDocument(change.getTaskId(),
+                            change.getUserId(), change.getTitle(), change.getDescription()));
+                }
+            }
+            afterWrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to apply " + changes.size() + " task changes to the index", e);
+        }
+    }
+
+    @Override
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * Drop every document and re-index all tasks from the database, walking the table by id
+     */
+    public synchronized void rebuild() {
+        try {
+            writer.deleteAll();
+            long lastId = 0L;
+            long count = 0L;
+            List<Task> batch;
+            do {
+                batch = taskRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Task task : batch) {
+                    writer.addDocument(toDocument(task.getId(), task.getUser() != null ? task.getUser().getId() : null,
+                            task.getTitle(), task.getDescription()));
+                    lastId = task.getId();
+                }
+                count += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            commit(null);
+            searcherManager.maybeRefreshBlocking();
+            log.info("Search index rebuilt with {} tasks", count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rebuild search index", e);
+        }
+    }
+
+    private void afterWrite() throws IOException {
+        dirty.set(true);
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private void commitIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            try {
+                commit(null);
+            } catch (IOException e) {
+                dirty.set(true);
+                log.warn("Search index commit failed", e);
+            }
+        }
+    }
+
+    /**
+     * Commit stamped with the current global task version; only exact once every
+     * published change has been applied
+     */
+    synchronized void commitWithTaskVersion() {
+        try {
+            commit(taskVersionTracker.globalVersion());
+            dirty.set(false);
+        } catch (IOException e) {
+            log.warn("Search index commit failed", e);
+        }
+    }
+
+    // Every commit replaces the user data, so an unstamped one clears the previous stamp
+    private synchronized void commit(Long taskVersion) throws IOException {
+        writer.setLiveCommitData(taskVersion == null
+                ? Map.<String, String>of().entrySet()
+                : Map.of(COMMIT_TASK_VERSION, taskVersion.toString()).entrySet());
+        writer.commit();
+    }
+
+    // Task version stamped on the last commit; null when the index was not closed cleanly
+    Long committedTaskVersion() {
+        try {
+            List<IndexCommit> commits = DirectoryReader.listCommits(directory);
+            String version = commits.get(commits.size() - 1).getUserData().get(COMMIT_TASK_VERSION);
+            return version != null ? Long.valueOf(version) : null;
+        } catch (IndexNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read search index commits", e);
+        }
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Ids of the user's tasks matching every keyword term, best match first
+     */
+    public List<Long> search(Long userId, String keyword, int maxResults) {
+        List<Long> ids = new ArrayList<>();
+        Query query = keywordQuery(userId, keyword);
+        if (query == null) {
+            return ids;
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (ScoreDoc hit : searcher.search(query, maxResults).scoreDocs) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(hit.doc).get(FIELD_ID)));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search failed for keyword: " + keyword, e);
+        }
+        return ids;
+    }
+
+    /**
+     * Number of the user's tasks matching every keyword term, without collecting them
+     */
+    public int count(Long userId, String keyword) {
+        Query query = keywordQuery(userId, keyword);
+        if (query == null) {
+            return 0;
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(query);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Count failed for keyword: " + keyword, e);
+        }
+    }
+
+    // Every analyzed term must match, within the user's tasks; null when the keyword has no terms
+    private Query keywordQuery(Long userId, String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_USER, userId.toString())), BooleanClause.Occur.FILTER);
+        for (String term : terms) {
+            query.add(termQuery(term), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    // A term matches exactly or as a word prefix, in the title (boosted) or the description
+    private Query termQuery(String term) {
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(FIELD_DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                .add(new PrefixQuery(new Term(FIELD_DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(FIELD_TITLE, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    // ==================== HELPERS ====================
+
+    private static Term idTerm(Long taskId) {
+        return new Term(FIELD_ID, taskId.toString());
+    }
+
+    private static Document toDocument(Long taskId, Long userId, String title, String description) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_ID, taskId.toString(), Field.Store.YES));
+        if (userId != null) {
+            doc.add(new StringField(FIELD_USER, userId.toString(), Field.Store.NO));
+        }
+        if (title != null) {
+            doc.add(new TextField(FIELD_TITLE, title, Field.Store.NO));
+        }
+        if (description != null) {
+            doc.add(new TextField(FIELD_DESCRIPTION, description, Field.Store.NO));
+        }
+        return doc;
+    }
+}
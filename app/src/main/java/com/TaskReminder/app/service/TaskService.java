@@ -1,21 +1,47 @@
 package com.TaskReminder.app.service;
 
+import com.TaskReminder.app.dto.CalendarEvent;
+import com.TaskReminder.app.dto.DashboardSummary;
+import com.TaskReminder.app.dto.TaskHistoryEntry;
+import com.TaskReminder.app.dto.TaskHistoryWindow;
 import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.dto.TaskWindow;
+import com.TaskReminder.app.repository.ArchivedTaskRepository;
+import com.TaskReminder.app.repository.TaskCriteria;
+import com.TaskReminder.app.repository.TaskFieldsRepository;
 import com.TaskReminder.app.repository.TaskRepository;
+import com.TaskReminder.app.repository.TaskSpecifications;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.TaskReminder.app.entity.User;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;  // ✅ ADD THIS IMPORT
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,9 +50,34 @@ public class TaskService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private UserTaskStats userTaskStats;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private TaskCountCache taskCountCache;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskRollups taskRollups;
+
+    // Keyword filters only consider the best this many index matches; see isKeywordFilterCapped
+    @Value("${app.search.max-keyword-matches:1000}")
+    private int maxKeywordMatches;
+
     // Status and Priority options
-    public static final List<String> STATUSES = Arrays.asList("PENDING", "IN_PROGRESS", "DONE");
-    public static final List<String> PRIORITIES = Arrays.asList("LOW", "MEDIUM", "HIGH");
+    public static final List<String> STATUSES = Arrays.stream(TaskStatus.values()).map(Enum::name).toList();
+    public static final List<String> PRIORITIES = Arrays.stream(TaskPriority.values()).map(Enum::name).toList();
 
     public List<String> getStatuses() {
         return STATUSES;
@@ -54,25 +105,122 @@ public class TaskService {
         return taskRepository.findById(id);
     }
 
+    // The task row, its owner's version and the report rollups commit together
+    // (see TaskVersionTracker, TaskRollups)
+    @Transactional
     public Task saveTask(Task task) {
-        return taskRepository.save(task);
+        boolean isNew = task.getId() == null;
+        TaskRollups.Snapshot before = null;
+        List<UserTaskStats.TaskState> beforeStates = List.of();
+        Long previousOwner = null;
+        boolean beforeKnown = true;
+        if (!isNew) {
+            // Loads the stored row the merge below then updates, so no extra query
+            Task stored = taskRepository.findById(task.getId()).orElse(null);
+            before = TaskRollups.Snapshot.of(stored);
+            if (stored != null) {
+                // The same instance means the caller already changed the managed row
+                beforeKnown = stored != task;
+                beforeStates = List.of(UserTaskStats.TaskState.of(stored));
+                previousOwner = ownerId(stored);
+                if (task.getCreatedAt() == null) {
+                    task.setCreatedAt(stored.getCreatedAt());
+                }
+            }
+        }
+        syncCompletedAt(task);
+        Task saved = taskRepository.save(task);
+        long version = taskVersionTracker.bump(saved);
+        boolean ownerChanged = !beforeStates.isEmpty() && !Objects.equals(previousOwner, ownerId(saved));
+        if (ownerChanged) {
+            // The previous owner's lists and rollups change too
+            taskVersionTracker.bumpOwner(previousOwner);
+        }
+        if (beforeKnown && !ownerChanged) {
+            afterWrite(ownerId(saved), version, beforeStates, states(List.of(saved)));
+        } else {
+            Long owner = previousOwner;
+            afterCommit(() -> {
+                userTaskStats.evictUser(owner);
+                userTaskStats.evictUser(ownerId(saved));
+            });
+        }
+        taskRollups.recordChanged(before, saved);
+        taskChangePipeline.publish(TaskChange.saved(saved, isNew, version));
+        return saved;
     }
 
+    @Transactional
     public void deleteTask(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            long version = taskVersionTracker.bump(task);
+            afterWrite(ownerId(task), version, states(List.of(task)), List.of());
+            taskRollups.recordDeleted(List.of(task));
+            taskChangePipeline.publish(TaskChange.deleted(task, version));
+        });
+    }
+
+    // DONE tasks carry their completion time and open ones none (archiving and rollups key on it)
+    private static void syncCompletedAt(Task task) {
+        if (task.getTaskStatus() != TaskStatus.DONE) {
+            task.setCompletedAt(null);
+        } else if (task.getCompletedAt() == null) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+    }
+
+    // Keep the per-user counters in step with a write once it has committed; callers
+    // bump the stored task version once per transaction, pass the version it reached
+    // with the before/after states of the tasks written, and publish the change for
+    // the other views (search, reminders) through TaskChangePipeline
+    private void afterWrite(Long userId, long version, List<UserTaskStats.TaskState> before,
+                            List<UserTaskStats.TaskState> after) {
+        afterCommit(() -> userTaskStats.recordWrite(userId, version, before, after));
+    }
+
+    private static List<UserTaskStats.TaskState> states(List<Task> tasks) {
+        return tasks.stream().map(UserTaskStats.TaskState::of).toList();
+    }
+
+    private static Long ownerId(Task task) {
+        return task.getUser() != null ? task.getUser().getId() : null;
+    }
+
+    // Runs on the writing thread right after commit, so the next read is exact;
+    // a rollback leaves the in-memory counters untouched
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     // ==================== MARK AS DONE ====================
 
     // ==================== MARK AS DONE ====================
 
+    @Transactional
     public Task markAsDone(Long id) {
         Optional<Task> taskOpt = taskRepository.findById(id);
         if (taskOpt. isPresent()) {
             Task task = taskOpt.get();
-            task.setStatus("DONE");
+            List<UserTaskStats.TaskState> beforeStates = states(List.of(task));
+            TaskRollups.Snapshot before = TaskRollups.Snapshot.of(task);
+            task.setTaskStatus(TaskStatus.DONE);
             task.setCompletedAt(LocalDateTime.now());  // ✅ ADD THIS LINE
-            return taskRepository.save(task);
+            Task saved = taskRepository.save(task);
+            long version = taskVersionTracker.bump(saved);
+            afterWrite(ownerId(saved), version, beforeStates, states(List.of(saved)));
+            taskRollups.recordChanged(before, saved);
+            taskChangePipeline.publish(TaskChange.saved(saved, false, version));
+            return saved;
         }
         return null;
     }
@@ -80,13 +228,13 @@ public class TaskService {
     // ==================== FILTER BY STATUS ====================
 
     public List<Task> getTasksByStatus(String status) {
-        return taskRepository.findByStatus(status);
+        return taskRepository.findByStatus(TaskStatus.from(status));
     }
 
     // ==================== FILTER BY PRIORITY ====================
 
     public List<Task> getTasksByPriority(String priority) {
-        return taskRepository.findByPriority(priority);
+        return taskRepository.findByPriority(TaskPriority.from(priority));
     }
 
     // ==================== DATE-BASED QUERIES ====================
@@ -116,110 +264,81 @@ public class TaskService {
     // ==================== COMBINED FILTER METHOD ====================
 
     public List<Task> filterTasks(String status, String priority, String keyword) {
-        List<Task> tasks;
-
-        boolean hasStatus = status != null && !status.isEmpty() && !status.equals("All");
-        boolean hasPriority = priority != null && !priority.isEmpty() && !priority.equals("All");
-        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
-
-        if (hasStatus && hasPriority && hasKeyword) {
-            tasks = taskRepository.findByStatusAndPriorityAndTitleContainingIgnoreCase(status, priority, keyword);
-        } else if (hasStatus && hasPriority) {
-            tasks = taskRepository.findByStatusAndPriority(status, priority);
-        } else if (hasStatus && hasKeyword) {
-            tasks = taskRepository. findByStatusAndTitleContainingIgnoreCase(status, keyword);
-        } else if (hasPriority && hasKeyword) {
-            tasks = taskRepository. findByPriorityAndTitleContainingIgnoreCase(priority, keyword);
-        } else if (hasStatus) {
-            tasks = taskRepository.findByStatus(status);
-        } else if (hasPriority) {
-            tasks = taskRepository.findByPriority(priority);
-        } else if (hasKeyword) {
-            tasks = taskRepository. findByTitleContainingIgnoreCase(keyword);
-        } else {
-            tasks = taskRepository.findAll();
-        }
-
-        return tasks;
+        return taskRepository.findAll(filterCriteria(status, priority, keyword).toSpecification());
     }
 
-    // ==================== SORTING METHOD ====================
+    // Status / priority / title keyword filters from request parameters ("All" or blank = no filter)
+    private static TaskCriteria filterCriteria(String status, String priority, String keyword) {
+        return TaskCriteria.tasks()
+                .status(TaskStatus.from(blankToNull(status)))
+                .priority(TaskPriority.from(blankToNull(priority)))
+                .titleContains(keyword);
+    }
 
-    public List<Task> sortTasks(List<Task> tasks, String sortBy) {
-        if (sortBy == null || sortBy.isEmpty() || tasks == null || tasks.isEmpty()) {
-            return tasks;
-        }
+    // ==================== FILTER AND SORT COMBINED ====================
 
-        List<Task> sortedTasks = new ArrayList<>(tasks);
+    /**
+     * Filter and sort in one query; the ORDER BY runs in the database
+     * (priority sorts by its stored rank, HIGH first)
+     */
+    public List<Task> filterAndSortTasks(String status, String priority, String keyword, String sortBy) {
+        return taskRepository.findAll(filterCriteria(status, priority, keyword).toSpecification(), sortOf(sortBy));
+    }
 
+    // sortBy request parameter as SQL ORDER BY, id breaking ties; unknown values leave the rows unsorted
+    private static Sort sortOf(String sortBy) {
+        if (sortBy == null) {
+            return Sort.unsorted();
+        }
         switch (sortBy) {
             case "dueDate":
-                sortedTasks. sort(Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder())));
-                break;
+                return Sort.by("dueDate", "id");
             case "priority":
-                sortedTasks. sort((t1, t2) -> {
-                    int p1 = getPriorityOrder(t1.getPriority());
-                    int p2 = getPriorityOrder(t2.getPriority());
-                    return Integer.compare(p2, p1);
-                });
-                break;
+                return Sort.by(Sort.Direction.DESC, "priority", "id");
             case "title":
-                sortedTasks.sort(Comparator.comparing(Task:: getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
-                break;
+                return Sort.by("title", "id");
             case "createdAt":
-                sortedTasks.sort(Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
-                break;
+                return Sort.by(Sort.Direction.DESC, "createdAt", "id");
             default:
-                break;
-        }
-        return sortedTasks;
-    }
-
-    private int getPriorityOrder(String priority) {
-        if (priority == null) return 0;
-        switch (priority.toUpperCase()) {
-            case "HIGH":  return 3;
-            case "MEDIUM": return 2;
-            case "LOW": return 1;
-            default: return 0;
+                return Sort.unsorted();
         }
     }
 
-    // ==================== FILTER AND SORT COMBINED ====================
+    // ==================== BASIC PAGINATION METHODS ====================
+    // withTotal = false returns a Slice read with one pageSize + 1 query and no COUNT;
+    // withTotal = true returns a Page carrying totalElements / totalPages
 
-    public List<Task> filterAndSortTasks(String status, String priority, String keyword, String sortBy) {
-        List<Task> tasks = filterTasks(status, priority, keyword);
-        return sortTasks(tasks, sortBy);
+    public Slice<Task> getAllTasks(Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks(), pageable, withTotal);
     }
 
-    // ==================== BASIC PAGINATION METHODS ====================
-
-    public Page<Task> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable);
+    public Slice<Task> getTasksByStatus(String status, Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks().status(TaskStatus.from(status)), pageable, withTotal);
     }
 
-    public Page<Task> getTasksByStatus(String status, Pageable pageable) {
-        return taskRepository.findByStatus(status, pageable);
+    public Slice<Task> getTasksByPriority(String priority, Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks().priority(TaskPriority.from(priority)), pageable, withTotal);
     }
 
-    public Page<Task> getTasksByPriority(String priority, Pageable pageable) {
-        return taskRepository.findByPriority(priority, pageable);
+    public Slice<Task> getTasksByDueDate(LocalDate dueDate, Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks().dueOn(dueDate), pageable, withTotal);
     }
 
-    public Page<Task> getTasksByDueDate(LocalDate dueDate, Pageable pageable) {
-        return taskRepository.findByDueDate(dueDate, pageable);
+    public Slice<Task> getTasksBeforeDate(LocalDate date, Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks().dueBefore(date), pageable, withTotal);
     }
 
-    public Page<Task> getTasksBeforeDate(LocalDate date, Pageable pageable) {
-        return taskRepository.findByDueDateBefore(date, pageable);
+    public Slice<Task> getTasksAfterDate(LocalDate date, Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks().dueAfter(date), pageable, withTotal);
     }
 
-    public Page<Task> getTasksAfterDate(LocalDate date, Pageable pageable) {
-        return taskRepository.findByDueDateAfter(date, pageable);
+    public Slice<Task> getTasksBetweenDates(LocalDate startDate, LocalDate endDate, Pageable pageable, boolean withTotal) {
+        return findPage(TaskCriteria.tasks().dueBetween(startDate, endDate), pageable, withTotal);
     }
 
-    public Page<Task> getTasksBetweenDates(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return taskRepository.findByDueDateBetween(startDate, endDate, pageable);
+    private Slice<Task> findPage(TaskCriteria criteria, Pageable pageable, boolean withTotal) {
+        Specification<Task> spec = criteria.toSpecification();
+        return withTotal ? taskRepository.findAll(spec, pageable) : taskRepository.findSlice(spec, pageable);
     }
 
     // ==========================================================
@@ -230,41 +349,7 @@ public class TaskService {
      * Get filtered tasks with pagination - Main method used by TaskController
      */
     public Page<Task> getFilteredTasksWithPagination(String status, String priority, String keyword, Pageable pageable) {
-
-        boolean hasStatus = status != null && ! status.isEmpty() && !status.equals("All");
-        boolean hasPriority = priority != null && !priority.isEmpty() && !priority.equals("All");
-        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
-
-        // All three filters
-        if (hasStatus && hasPriority && hasKeyword) {
-            return taskRepository.findByStatusAndPriorityAndTitleContainingIgnoreCase(status, priority, keyword, pageable);
-        }
-        // Status + Priority
-        if (hasStatus && hasPriority) {
-            return taskRepository. findByStatusAndPriority(status, priority, pageable);
-        }
-        // Status + Keyword
-        if (hasStatus && hasKeyword) {
-            return taskRepository.findByStatusAndTitleContainingIgnoreCase(status, keyword, pageable);
-        }
-        // Priority + Keyword
-        if (hasPriority && hasKeyword) {
-            return taskRepository.findByPriorityAndTitleContainingIgnoreCase(priority, keyword, pageable);
-        }
-        // Only Status
-        if (hasStatus) {
-            return taskRepository.findByStatus(status, pageable);
-        }
-        // Only Priority
-        if (hasPriority) {
-            return taskRepository.findByPriority(priority, pageable);
-        }
-        // Only Keyword
-        if (hasKeyword) {
-            return taskRepository.findByTitleContainingIgnoreCase(keyword, pageable);
-        }
-        // No filters - return all with pagination
-        return taskRepository.findAll(pageable);
+        return taskRepository.findAll(filterCriteria(status, priority, keyword).toSpecification(), pageable);
     }
 
     /**
@@ -272,19 +357,14 @@ public class TaskService {
      * Overdue = due date before today AND status is NOT DONE
      */
     public Page<Task> getOverdueTasksWithPagination(Pageable pageable) {
-        List<Task> overdueTasks = taskRepository.findByDueDateBefore(LocalDate.now())
-                .stream()
-                .filter(task -> !"DONE".equals(task.getStatus()))
-                .collect(Collectors.toList());
-
-        return convertListToPage(overdueTasks, pageable);
+        return taskRepository.findAll(TaskCriteria.tasks().overdueAsOf(LocalDate.now()).toSpecification(), pageable);
     }
 
     /**
      * Get tasks due today with pagination
      */
     public Page<Task> getTasksDueTodayWithPagination(Pageable pageable) {
-        return taskRepository.findByDueDate(LocalDate.now(), pageable);
+        return taskRepository.findAll(TaskCriteria.tasks().dueOn(LocalDate.now()).toSpecification(), pageable);
     }
 
     /**
@@ -293,55 +373,28 @@ public class TaskService {
     public Page<Task> getUpcomingTasksWithPagination(Pageable pageable) {
         LocalDate today = LocalDate.now();
         LocalDate nextWeek = today.plusDays(7);
-        return taskRepository.findByDueDateBetween(today, nextWeek, pageable);
+        return taskRepository.findAll(TaskCriteria.tasks().dueBetween(today, nextWeek).toSpecification(), pageable);
     }
 
     /**
      * Get upcoming tasks after today with pagination
      */
     public Page<Task> getTasksAfterTodayWithPagination(Pageable pageable) {
-        return taskRepository.findByDueDateAfter(LocalDate.now(), pageable);
-    }
-
-    // ==========================================================
-    // ✅ HELPER METHOD - Convert List to Page
-    // ==========================================================
-
-    /**
-     * Converts a List to a Page for manual pagination
-     * Used when we need to filter in-memory (e.g., overdue tasks excluding DONE)
-     */
-    private Page<Task> convertListToPage(List<Task> list, Pageable pageable) {
-        if (list == null || list.isEmpty()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, 0);
-        }
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-
-        // If start is beyond the list size, return empty page
-        if (start >= list.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, list.size());
-        }
-
-        List<Task> subList = list.subList(start, end);
-        return new PageImpl<>(subList, pageable, list.size());
+        return taskRepository.findAll(TaskCriteria.tasks().dueAfter(LocalDate.now()).toSpecification(), pageable);
     }
 
     // ==================== UTILITY METHODS ====================
 
     public long countTasksByStatus(String status) {
-        return taskRepository.findByStatus(status).size();
+        return taskRepository.countByStatus(TaskStatus.from(status));
     }
 
     public long countTasksByPriority(String priority) {
-        return taskRepository.findByPriority(priority).size();
+        return taskRepository.countByPriority(TaskPriority.from(priority));
     }
 
     public List<Task> getOverdueTasks() {
-        List<Task> overdueTasks = new ArrayList<>(taskRepository. findByDueDateBefore(LocalDate.now()));
-        overdueTasks.removeIf(task -> "DONE".equals(task.getStatus()));
-        return overdueTasks;
+        return taskRepository.findAll(TaskCriteria.tasks().overdueAsOf(LocalDate.now()).toSpecification());
     }
 
     public List<Task> getTasksDueToday() {
@@ -367,7 +420,7 @@ public class TaskService {
      * Get count of filtered tasks
      */
     public long getFilteredTaskCount(String status, String priority, String keyword) {
-        return filterTasks(status, priority, keyword).size();
+        return taskRepository.count(filterCriteria(status, priority, keyword).toSpecification());
     }
 
     // ==========================================================
@@ -387,7 +440,7 @@ public class TaskService {
      * Used for header stats - Pending count
      */
     public long countPendingTasks() {
-        return taskRepository.countByStatus("PENDING");
+        return taskRepository.countByStatus(TaskStatus.PENDING);
     }
 
     /**
@@ -395,7 +448,7 @@ public class TaskService {
      * Used for header stats - In Progress count
      */
     public long countInProgressTasks() {
-        return taskRepository.countByStatus("IN_PROGRESS");
+        return taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
     }
 
     /**
@@ -403,7 +456,7 @@ public class TaskService {
      * Used for header stats - Completed count
      */
     public long countDoneTasks() {
-        return taskRepository.countByStatus("DONE");
+        return taskRepository.countByStatus(TaskStatus.DONE);
     }
 
     /**
@@ -411,11 +464,7 @@ public class TaskService {
      * Used for header stats - Overdue count
      */
     public long countOverdueTasks() {
-        LocalDate today = LocalDate.now();
-        return taskRepository.findByDueDateBefore(today)
-                .stream()
-                .filter(task -> !"DONE".equals(task.getStatus()))
-                .count();
+        return taskRepository.count(TaskCriteria.tasks().overdueAsOf(LocalDate.now()).toSpecification());
     }
 
     /**
@@ -441,10 +490,7 @@ public class TaskService {
      * Used for header stats - High priority count
      */
     public long countHighPriorityTasks() {
-        return taskRepository.findByPriority("HIGH")
-                .stream()
-                .filter(task -> !"DONE".equals(task.getStatus()))
-                .count();
+        return taskRepository.count(TaskCriteria.tasks().priority(TaskPriority.HIGH).notDone().toSpecification());
     }
 
     // ========== ✅ NEW: USER-SPECIFIC METHODS ==========
@@ -458,40 +504,290 @@ public class TaskService {
     }
 
     public List<Task> getTasksByUserAndStatus(User user, String status) {
-        return taskRepository.findByUserAndStatus(user, status);
+        return taskRepository.findByUserAndStatus(user, TaskStatus.from(status));
     }
 
     public List<Task> getTasksByUserAndPriority(User user, String priority) {
-        return taskRepository.findByUserAndPriority(user, priority);
+        return taskRepository.findByUserAndPriority(user, TaskPriority.from(priority));
     }
 
     public List<Task> getOverdueTasksByUser(User user) {
         return taskRepository.findOverdueTasksByUser(user, LocalDate.now());
     }
 
-    public Page<Task> getOverdueTasksByUser(User user, Pageable pageable) {
-        return taskRepository.findOverdueTasksByUser(user, LocalDate.now(), pageable);
-    }
-
     public List<Task> getTasksDueTodayByUser(User user) {
         return taskRepository.findTasksDueTodayByUser(user, LocalDate.now());
     }
 
-    public Page<Task> getTasksDueTodayByUser(User user, Pageable pageable) {
-        return taskRepository.findTasksDueTodayByUser(user, LocalDate.now(), pageable);
-    }
-
     public List<Task> getUpcomingTasksByUser(User user) {
         return taskRepository.findUpcomingTasksByUser(user, LocalDate.now());
     }
 
-    public Page<Task> getUpcomingTasksByUser(User user, Pageable pageable) {
-        return taskRepository.findUpcomingTasksByUser(user, LocalDate.now(), pageable);
+    // ==================== USER VIEWS: SLICES + CACHED TOTALS ====================
+    // Each /tasks view reads its rows as a Slice (no COUNT); the "of Z" total comes from
+    // the in-memory UserTaskStats where it has the number, otherwise from TaskCountCache
+
+    public Slice<Task> getFilteredTaskSliceByUser(User user, String status, String priority,
+                                                  String keyword, Pageable pageable) {
+        TaskCriteria criteria = userFilterCriteria(user, status, priority, keyword);
+        return criteria != null ? taskRepository.findSlice(criteria.toSpecification(), pageable)
+                : new SliceImpl<>(new ArrayList<>(), pageable, false);
+    }
+
+    public long countFilteredTasksByUser(User user, String status, String priority, String keyword) {
+        TaskStatus statusFilter = TaskStatus.from(blankToNull(status));
+        TaskPriority priorityFilter = TaskPriority.from(blankToNull(priority));
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        if (priorityFilter == null && !hasKeyword) {
+            UserTaskStats.Counts stats = userTaskStats.getStats(user);
+            return statusFilter != null ? stats.getCount(statusFilter) : stats.getTotal();
+        }
+        String query = "filter:" + statusFilter + ":" + priorityFilter + ":" + (hasKeyword ? keyword.trim() : "");
+        return taskCountCache.count(user, query, () -> {
+            TaskCriteria criteria = userFilterCriteria(user, status, priority, keyword);
+            return criteria != null ? taskRepository.count(criteria.toSpecification()) : 0L;
+        });
+    }
+
+    // Owner + status/priority filters, keyword matched through the search index; null when no task can match
+    private TaskCriteria userFilterCriteria(User user, String status, String priority, String keyword) {
+        TaskCriteria criteria = TaskCriteria.tasks()
+                .ownedBy(user)
+                .status(TaskStatus.from(blankToNull(status)))
+                .priority(TaskPriority.from(blankToNull(priority)));
+        if (keyword != null && !keyword.isBlank()) {
+            // Keyword matching comes from the search index; status/priority/sort stay in SQL
+            List<Long> matchingIds = taskSearchIndex.search(user.getId(), keyword, maxKeywordMatches);
+            if (matchingIds.isEmpty()) {
+                return null;
+            }
+            criteria.idIn(matchingIds);
+        }
+        return criteria;
+    }
+
+    /**
+     * True if the keyword matches more of the user's tasks than a filter considers,
+     * so filtered lists and totals only cover the best getKeywordMatchLimit() matches
+     */
+    public boolean isKeywordFilterCapped(User user, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return false;
+        }
+        return taskSearchIndex.count(user.getId(), keyword) > maxKeywordMatches;
+    }
+
+    public int getKeywordMatchLimit() {
+        return maxKeywordMatches;
+    }
+
+    public Slice<Task> getOverdueTaskSliceByUser(User user, Pageable pageable) {
+        return taskRepository.findSlice(TaskCriteria.tasks().ownedBy(user).overdueAsOf(LocalDate.now()).toSpecification(), pageable);
+    }
+
+    public long countOverdueTasksForView(User user) {
+        return userTaskStats.getStats(user).getOverdue();
+    }
+
+    public Slice<Task> getTasksDueTodaySliceByUser(User user, Pageable pageable) {
+        return taskRepository.findSlice(dueTodayCriteria(user, LocalDate.now()).toSpecification(), pageable);
+    }
+
+    public long countTasksDueTodayForView(User user) {
+        LocalDate today = LocalDate.now();
+        return taskCountCache.count(user, "today:" + today,
+                () -> taskRepository.count(dueTodayCriteria(user, today).toSpecification()));
+    }
+
+    public Slice<Task> getUpcomingTaskSliceByUser(User user, Pageable pageable) {
+        return taskRepository.findSlice(upcomingCriteria(user, LocalDate.now()).toSpecification(), pageable);
+    }
+
+    public long countUpcomingTasksForView(User user) {
+        LocalDate today = LocalDate.now();
+        return taskCountCache.count(user, "upcoming:" + today,
+                () -> taskRepository.count(upcomingCriteria(user, today).toSpecification()));
+    }
+
+    private static TaskCriteria dueTodayCriteria(User user, LocalDate today) {
+        return TaskCriteria.tasks().ownedBy(user).dueOn(today);
+    }
+
+    private static TaskCriteria upcomingCriteria(User user, LocalDate today) {
+        return TaskCriteria.tasks().ownedBy(user).dueAfter(today).notDone();
+    }
+
+    /**
+     * Keyword search over a user's tasks, best match first
+     */
+    public List<Task> searchTasksByUser(User user, String keyword, int limit) {
+        List<Long> rankedIds = taskSearchIndex.search(user.getId(), keyword, limit);
+        Map<Long, Task> byId = taskRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // ==========================================================
+    // KEYSET (CURSOR) PAGINATION
+    // ==========================================================
+
+    /**
+     * One page of tasks after the given cursor, ordered by sortField then id.
+     * Fetches size + 1 rows to detect a next page; no COUNT query is issued.
+     *
+     * @param user   owner to scope to, or null for all tasks (REST API)
+     * @param cursor position returned with the previous page, or null for the first page
+     */
+    public TaskWindow scrollTasks(User user, String status, String priority, String keyword,
+                                  String sortField, String sortDir, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        TaskCursor.SortField field = TaskCursor.SortField.fromProperty(sortField);
+        boolean ascending = "asc".equalsIgnoreCase(sortDir);
+
+        TaskCriteria criteria = TaskCriteria.tasks()
+                .ownedBy(user)
+                .status(TaskStatus.from(blankToNull(status)))
+                .priority(TaskPriority.from(blankToNull(priority)));
+        if (user != null && keyword != null && !keyword.isBlank()) {
+            List<Long> matchingIds = taskSearchIndex.search(user.getId(), keyword, maxKeywordMatches);
+            if (matchingIds.isEmpty()) {
+                return new TaskWindow(new ArrayList<>(), null);
+            }
+            criteria.idIn(matchingIds);
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            TaskCursor position = TaskCursor.decode(cursor);
+            if (!position.matches(field, ascending)) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order");
+            }
+            criteria.and(position.seekAfter());
+        }
+        Specification<Task> spec = criteria.toSpecification();
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, field.getProperty()).and(Sort.by(direction, "id"));
+        List<Task> rows = taskRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+
+        if (rows.size() <= size) {
+            return new TaskWindow(rows, null);
+        }
+        List<Task> content = new ArrayList<>(rows.subList(0, size));
+        String nextCursor = TaskCursor.after(content.get(size - 1), field, ascending).encode();
+        return new TaskWindow(content, nextCursor);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() || value.equals("All") ? null : value;
+    }
+
+    // Dashboard/reports buckets computed in the database
+    public DashboardSummary getDashboardSummary(User user) {
+        return taskRepository.getDashboardSummary(user, LocalDate.now());
+    }
+
+    /**
+     * Completed tasks across both tiers, most recently completed first, one
+     * keyset window at a time. Each tier is read after the cursor's
+     * (completedAt, id) and the two are merged on that key, so the order holds
+     * however completion times interleave between live and archived rows
+     * (a live task can have completed before one already archived).
+     */
+    public TaskHistoryWindow getTaskHistory(User user, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid size");
+        }
+        List<TaskHistoryEntry> live;
+        List<TaskHistoryEntry> archived;
+        if (cursor == null || cursor.isBlank()) {
+            live = taskRepository.findHistory(user, size + 1);
+            archived = archivedTaskRepository.findHistory(user, size + 1);
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            live = taskRepository.findHistoryBefore(user, after.completedAt(), after.id(), size + 1);
+            archived = archivedTaskRepository.findHistoryBefore(user, after.completedAt(), after.id(), size + 1);
+        }
+
+        List<TaskHistoryEntry> rows = mergeHistory(live, archived, size + 1);
+        if (rows.size() <= size) {
+            return new TaskHistoryWindow(rows, null);
+        }
+        List<TaskHistoryEntry> content = new ArrayList<>(rows.subList(0, size));
+        return new TaskHistoryWindow(content, HistoryCursor.after(content.get(size - 1)).encode());
+    }
+
+    // Both lists are sorted by (completedAt, id) descending; a row in both tiers mid-archive is kept once
+    private static List<TaskHistoryEntry> mergeHistory(List<TaskHistoryEntry> live, List<TaskHistoryEntry> archived, int limit) {
+        List<TaskHistoryEntry> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < live.size() || j < archived.size())) {
+            TaskHistoryEntry next;
+            if (j >= archived.size() || (i < live.size() && HISTORY_ORDER.compare(live.get(i), archived.get(j)) <= 0)) {
+                next = live.get(i++);
+            } else {
+                next = archived.get(j++);
+            }
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).getId().equals(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    private static final Comparator<TaskHistoryEntry> HISTORY_ORDER = Comparator
+            .comparing(TaskHistoryEntry::getCompletedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TaskHistoryEntry::getId, Comparator.reverseOrder());
+
+    // Opaque history position: completedAt and id of the last entry returned
+    private record HistoryCursor(LocalDateTime completedAt, long id) {
+
+        static HistoryCursor after(TaskHistoryEntry entry) {
+            return new HistoryCursor(entry.getCompletedAt(), entry.getId());
+        }
+
+        String encode() {
+            String raw = completedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid history cursor", e);
+            }
+        }
+    }
+
+    public List<Task> getRecentTasksByUser(User user, int limit) {
+        return taskRepository.findByUserOrderByCreatedAtDesc(user, PageRequest.of(0, limit));
+    }
+
+    // Calendar feed for a due-date window [start, end)
+    public List<CalendarEvent> getCalendarEvents(User user, LocalDate start, LocalDate end) {
+        return taskRepository.findCalendarEvents(user, start, end);
     }
 
-    public Page<Task> getFilteredTasksByUser(User user, String status, String priority,
-                                             String keyword, Pageable pageable) {
-        return taskRepository.findFilteredTasksByUser(user, status, priority, keyword, pageable);
+    public long getTaskVersion(User user) {
+        return taskVersionTracker.versionOf(user);
+    }
+
+    // Version of all tasks, for the unscoped REST lists
+    public long getGlobalTaskVersion() {
+        return taskVersionTracker.globalVersion();
+    }
+
+    // Last write time of a task without loading it; null if there is no such task
+    public LocalDateTime getTaskUpdatedAt(Long id) {
+        return taskRepository.findUpdatedAtById(id).orElse(null);
     }
 
     // User-specific counts
@@ -500,28 +796,209 @@ public class TaskService {
     }
 
     public long countPendingTasksByUser(User user) {
-        return taskRepository.countByUserAndStatus(user, "PENDING");
+        return taskRepository.countByUserAndStatus(user, TaskStatus.PENDING);
     }
 
     public long countInProgressTasksByUser(User user) {
-        return taskRepository.countByUserAndStatus(user, "IN_PROGRESS");
+        return taskRepository.countByUserAndStatus(user, TaskStatus.IN_PROGRESS);
     }
 
     public long countDoneTasksByUser(User user) {
-        return taskRepository.countByUserAndStatus(user, "DONE");
+        return taskRepository.countByUserAndStatus(user, TaskStatus.DONE);
     }
 
     public long countOverdueTasksByUser(User user) {
         return taskRepository.countOverdueTasksByUser(user, LocalDate.now());
     }
 
-    // Save task with user
+    // Save task with user (transactional here too: the call below does not go through the proxy)
+    @Transactional
     public Task saveTask(Task task, User user) {
         task.setUser(user);
         if (task.getCreatedAt() == null) {
             task.setCreatedAt(LocalDateTime.now());
         }
-        return taskRepository.save(task);
+        return saveTask(task);
+    }
+
+    // ==================== SPARSE FIELDSETS ====================
+    // Only the requested columns are selected; rows are field -> value maps
+
+    public Slice<Map<String, Object>> getTaskFields(List<String> fields, Pageable pageable, boolean withTotal) {
+        return taskRepository.findFields(null, checkFields(fields), pageable, withTotal);
+    }
+
+    public List<Map<String, Object>> getTaskFieldsByStatus(String status, List<String> fields) {
+        return taskRepository.findFields(TaskSpecifications.hasStatus(TaskStatus.from(status)), checkFields(fields), Sort.unsorted());
+    }
+
+    private static List<String> checkFields(List<String> fields) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("No fields requested");
+        }
+        for (String field : fields) {
+            if (!TaskFieldsRepository.SELECTABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        return fields;
+    }
+
+    // ==================== BATCH OPERATIONS ====================
+    // Each call runs in one transaction so Hibernate flushes the rows as JDBC batches
+
+    // Upper bound on tasks accepted by one batch call
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // Column sizes of tasks.title and tasks.description
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    @Transactional
+    public List<Task> createTasks(List<Task> tasks, User user) {
+        checkBatchSize(tasks.size());
+        tasks.forEach(task -> checkBatchTask(task, false));
+        for (Task task : tasks) {
+            task.setId(null);
+            task.setUser(user);
+            if (task.getTaskStatus() == null) {
+                task.setTaskStatus(TaskStatus.PENDING);
+            }
+            syncCompletedAt(task);
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+        long version = taskVersionTracker.bump(user);
+        afterWrite(user.getId(), version, List.of(), states(saved));
+        taskRollups.recordCreated(saved);
+        taskChangePipeline.publishAll(saved.stream().map(task -> TaskChange.saved(task, true, version)).toList());
+        return saved;
+    }
+
+    /**
+     * Apply title/description/due date/status/priority from each change to the user's task
+     * with the same id. Nothing is written if any id is missing or owned by someone else
+     * (NoSuchElementException), or if a change is invalid or repeats an id (IllegalArgumentException).
+     */
+    @Transactional
+    public List<Task> updateTasks(List<Task> changes, User user) {
+        checkBatchSize(changes.size());
+        changes.forEach(change -> checkBatchTask(change, true));
+        List<Long> ids = changes.stream().map(Task::getId).distinct().collect(Collectors.toList());
+        if (ids.size() != changes.size()) {
+            throw new IllegalArgumentException("Batch repeats a task id");
+        }
+        Map<Long, Task> owned = findOwnedTasks(ids, user);
+        if (owned.size() != ids.size()) {
+            throw new NoSuchElementException("Batch references unknown task ids");
+        }
+
+        List<Task> updated = new ArrayList<>();
+        List<TaskRollups.Snapshot> before = new ArrayList<>();
+        List<UserTaskStats.TaskState> beforeStates = new ArrayList<>();
+        for (Task change : changes) {
+            Task task = owned.get(change.getId());
+            before.add(TaskRollups.Snapshot.of(task));
+            beforeStates.add(UserTaskStats.TaskState.of(task));
+            task.setTitle(change.getTitle());
+            task.setDescription(change.getDescription());
+            task.setDueDate(change.getDueDate());
+            task.setTaskStatus(change.getTaskStatus());
+            task.setTaskPriority(change.getTaskPriority());
+            syncCompletedAt(task);
+            updated.add(task);
+        }
+        // Managed entities: dirty checking issues the batched UPDATEs at commit
+        long version = taskVersionTracker.bump(user);
+        afterWrite(user.getId(), version, beforeStates, states(updated));
+        taskRollups.apply(before, updated.stream().map(TaskRollups.Snapshot::of).toList());
+        taskChangePipeline.publishAll(updated.stream().map(task -> TaskChange.saved(task, false, version)).toList());
+        return updated;
+    }
+
+    /**
+     * Mark the user's tasks with the given ids as done; unknown ids are ignored
+     */
+    @Transactional
+    public List<Task> markTasksAsDone(List<Long> ids, User user) {
+        checkBatchSize(ids.size());
+        List<Task> done = new ArrayList<>();
+        List<TaskRollups.Snapshot> before = new ArrayList<>();
+        List<Task> changed = new ArrayList<>();
+        List<UserTaskStats.TaskState> beforeStates = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : findOwnedTasks(ids, user).values()) {
+            if (task.getTaskStatus() != TaskStatus.DONE) {
+                beforeStates.add(UserTaskStats.TaskState.of(task));
+                before.add(TaskRollups.Snapshot.of(task));
+                task.setTaskStatus(TaskStatus.DONE);
+                task.setCompletedAt(now);
+                changed.add(task);
+            }
+            done.add(task);
+        }
+        if (!changed.isEmpty()) {
+            long version = taskVersionTracker.bump(user);
+            afterWrite(user.getId(), version, beforeStates, states(changed));
+            taskRollups.apply(before, changed.stream().map(TaskRollups.Snapshot::of).toList());
+            taskChangePipeline.publishAll(changed.stream().map(task -> TaskChange.saved(task, false, version)).toList());
+        }
+        return done;
+    }
+
+    /**
+     * Delete the user's tasks with the given ids in one statement; returns the ids removed
+     */
+    @Transactional
+    public List<Long> deleteTasks(List<Long> ids, User user) {
+        checkBatchSize(ids.size());
+        List<Task> owned = new ArrayList<>(findOwnedTasks(ids, user).values());
+        if (owned.isEmpty()) {
+            return new ArrayList<>();
+        }
+        taskRepository.deleteAllInBatch(owned);
+        long version = taskVersionTracker.bump(user);
+        afterWrite(user.getId(), version, states(owned), List.of());
+        taskRollups.recordDeleted(owned);
+        taskChangePipeline.publishAll(owned.stream().map(task -> TaskChange.deleted(task, version)).toList());
+        return owned.stream().map(Task::getId).collect(Collectors.toList());
+    }
+
+    private Map<Long, Task> findOwnedTasks(List<Long> ids, User user) {
+        Map<Long, Task> owned = new LinkedHashMap<>();
+        for (Task task : taskRepository.findAllById(ids)) {
+            if (task.getUser() != null && task.getUser().getId().equals(user.getId())) {
+                owned.put(task.getId(), task);
+            }
+        }
+        return owned;
+    }
+
+    private static void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size " + size + " exceeds " + MAX_BATCH_SIZE);
+        }
+    }
+
+    // Reject what the tasks table would only refuse at commit (NOT NULL, column lengths)
+    private static void checkBatchTask(Task task, boolean update) {
+        if (task == null) {
+            throw new IllegalArgumentException("Batch contains an empty entry");
+        }
+        if (update && task.getId() == null) {
+            throw new IllegalArgumentException("Batch update entry without an id");
+        }
+        if (task.getTitle() == null || task.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Task title is required");
+        }
+        if (task.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Task title exceeds " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (task.getDescription() != null && task.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Task description exceeds " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        if (update && task.getTaskStatus() == null) {
+            throw new IllegalArgumentException("Task status is required");
+        }
     }
 }
 
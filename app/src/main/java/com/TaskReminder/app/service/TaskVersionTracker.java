@@ -0,0 +1,145 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskVersion;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.TaskVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user counter bumped on every task write, used to build ETags.
+ *
+ * Counters are stored in task_versions and bumped inside the writing transaction,
+ * so they survive restarts, are shared by every instance and only ever increase.
+ * Within one web request each user's version is read once (the ETag, the cached
+ * totals and the header counters all ask for it). The global version (a SUM over
+ * every row) is cached in memory, dropped by every local bump when it happens
+ * and again after its transaction commits, and re-read after
+ * app.tasks.global-version-ttl to pick up other instances' writes.
+ */
+@Service
+public class TaskVersionTracker {
+
+    private static final String REQUEST_VERSIONS = TaskVersionTracker.class.getName() + ".versions";
+
+    @Autowired
+    private TaskVersionRepository taskVersionRepository;
+
+    @Value("${app.tasks.global-version-ttl:PT1S}")
+    private Duration globalVersionTtl;
+
+    // Bumped on every local write; a cached sum read under an older generation is discarded
+    private final AtomicLong generation = new AtomicLong();
+    private volatile GlobalVersion cachedGlobal;
+
+    public long bump(Task task) {
+        return bump(task.getUser());
+    }
+
+    /**
+     * Count one write to the user's tasks (null for tasks without an owner) and
+     * return the new version; the row stays locked until the transaction ends,
+     * so versions follow commit order
+     */
+    public long bump(User user) {
+        Long ownerId = ownerId(user);
+        taskVersionRepository.bump(ownerId);
+        forget(ownerId);
+        invalidateGlobal();
+        return taskVersionRepository.findVersion(ownerId).orElse(0L);
+    }
+
+    /**
+     * Count one write to the tasks of the user with this id (null for tasks without an owner)
+     */
+    public void bumpOwner(Long userId) {
+        Long ownerId = userId != null ? userId : TaskVersion.UNOWNED;
+        taskVersionRepository.bump(ownerId);
+        forget(ownerId);
+        invalidateGlobal();
+    }
+
+    /**
+     * Version of the user's task data; 0 until the first write
+     */
+    public long versionOf(User user) {
+        Long ownerId = ownerId(user);
+        Map<Long, Long> seen = requestVersions();
+        if (seen == null) {
+            return readVersion(ownerId);
+        }
+        return seen.computeIfAbsent(ownerId, this::readVersion);
+    }
+
+    /**
+     * Version of all task data, for the unscoped endpoints
+     */
+    public long globalVersion() {
+        GlobalVersion cached = cachedGlobal;
+        long now = System.nanoTime();
+        if (cached != null && cached.generation() == generation.get() && now - cached.readAt() < globalVersionTtl.toNanos()) {
+            return cached.sum();
+        }
+        long readGeneration = generation.get();
+        long sum = taskVersionRepository.sumVersions();
+        cachedGlobal = new GlobalVersion(sum, readGeneration, now);
+        return sum;
+    }
+
+    // A sum read before the bump commits still sees the old value, so drop it once more afterwards
+    private void invalidateGlobal() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private long readVersion(Long ownerId) {
+        return taskVersionRepository.findVersion(ownerId).orElse(0L);
+    }
+
+    // Versions already read by the current web request; null off request threads
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Long> requestVersions() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Long, Long> seen = (Map<Long, Long>) attributes.getAttribute(REQUEST_VERSIONS, RequestAttributes.SCOPE_REQUEST);
+        if (seen == null) {
+            seen = new HashMap<>();
+            attributes.setAttribute(REQUEST_VERSIONS, seen, RequestAttributes.SCOPE_REQUEST);
+        }
+        return seen;
+    }
+
+    private static void forget(Long ownerId) {
+        Map<Long, Long> seen = requestVersions();
+        if (seen != null) {
+            seen.remove(ownerId);
+        }
+    }
+
+    private static Long ownerId(User user) {
+        return user != null ? user.getId() : TaskVersion.UNOWNED;
+    }
+
+    private record GlobalVersion(long sum, long generation, long readAt) {
+    }
+}
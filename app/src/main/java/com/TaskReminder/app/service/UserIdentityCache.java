@@ -0,0 +1,59 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, expiring cache of users by email.
+ *
+ * Shared by UserService (principal to User on every request) and
+ * CustomUserDetailsService (login and remember-me), so steady-state page views
+ * do not query the users table. Entries are detached entities; any code that
+ * changes a user must call {@link #evict(String)}.
+ */
+@Service
+public class UserIdentityCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.users.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.users.cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<String, User> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * User with this email, loaded once and then served from memory; unknown emails are not cached
+     */
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findByEmail(key).orElse(null)));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -17,6 +17,9 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserIdentityCache userIdentityCache;
+
     public User registerUser(String fullName, String email, String password) {
         // Check if email already exists
         if (userRepository.existsByEmail(email)) {
@@ -30,11 +33,27 @@ public class UserService {
         user.setRole("USER");
         user.setEnabled(true);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userIdentityCache.evict(saved.getEmail());
+        return saved;
+    }
+
+    /**
+     * Persist changes to an existing user and drop its cached copies, under the
+     * previous email as well when it changed
+     */
+    public User updateUser(User user) {
+        Optional<String> previousEmail = user.getId() != null
+                ? userRepository.findEmailById(user.getId())
+                : Optional.empty();
+        User saved = userRepository.save(user);
+        previousEmail.ifPresent(userIdentityCache::evict);
+        userIdentityCache.evict(saved.getEmail());
+        return saved;
     }
 
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userIdentityCache.findByEmail(email);
     }
 
     public boolean emailExists(String email) {
@@ -42,7 +61,7 @@ public class UserService {
     }
 
     public User getCurrentUser(String email) {
-        return userRepository.findByEmail(email)
+        return userIdentityCache.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-user header counters (pending, in progress, done, overdue, due today,
+ * upcoming, total).
+ *
+ * Counters are loaded with one grouped query and kept in memory, labelled with
+ * the user's TaskVersionTracker version read by that same query. A read only
+ * costs the version lookup while the label still matches; otherwise it loads
+ * again. After a write commits, the writer applies its before/after delta when
+ * the snapshot is exactly one version behind, so the next read stays a hit; any
+ * other gap drops the snapshot instead of guessing. The date buckets depend on
+ * the current date, so a snapshot is reloaded once the day changes.
+ */
+@Service
+public class UserTaskStats {
+
+    // Label of a snapshot whose version is not known (a user without tasks)
+    private static final long UNKNOWN_VERSION = -1L;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    private final ConcurrentMap<Long, Counts> cache = new ConcurrentHashMap<>();
+
+    // ==================== READ ====================
+
+    public Counts getStats(User user) {
+        LocalDate today = LocalDate.now();
+        long version = taskVersionTracker.versionOf(user);
+        Counts cached = cache.get(user.getId());
+        if (cached != null && cached.getDay().equals(today) && cached.getVersion() == version) {
+            return cached;
+        }
+        // Loaded outside the map so a slow query never blocks writers to other users
+        Counts loaded = load(user, today);
+        cache.merge(user.getId(), loaded, UserTaskStats::newer);
+        return loaded;
+    }
+
+    private Counts load(User user, LocalDate today) {
+        Counts counts = Counts.empty(today, UNKNOWN_VERSION);
+        List<Object[]> rows = taskRepository.countByUserGroupedByStatus(user, today);
+        for (Object[] row : rows) {
+            TaskStatus status = (TaskStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            counts = counts.plusStatus(status, count)
+                    .plusDueDates(longValue(row[2]), longValue(row[3]), longValue(row[4]))
+                    .withVersion(longValue(row[5]));
+        }
+        return counts;
+    }
+
+    // Keep whichever snapshot describes the later state
+    private static Counts newer(Counts a, Counts b) {
+        if (!a.getDay().equals(b.getDay())) {
+            return a.getDay().isAfter(b.getDay()) ? a : b;
+        }
+        return a.getVersion() > b.getVersion() ? a : b;
+    }
+
+    private static long longValue(Object sum) {
+        return sum != null ? ((Number) sum).longValue() : 0;
+    }
+
+    // ==================== WRITE NOTIFICATIONS ====================
+
+    /**
+     * Status and due date of one task as the counters see it
+     */
+    public record TaskState(TaskStatus status, LocalDate dueDate) {
+        public static TaskState of(Task task) {
+            return new TaskState(task.getTaskStatus(), task.getDueDate());
+        }
+    }
+
+    /**
+     * A committed write moved the user's tasks from the before states (removed or
+     * previous versions) to the after states (added or new versions), and took the
+     * user's task version to newVersion. Called after commit.
+     */
+    public void recordWrite(Long userId, long newVersion, List<TaskState> before, List<TaskState> after) {
+        if (userId == null) {
+            return;
+        }
+        // Only a snapshot that is exactly one write behind can take the delta;
+        // returning null drops any other, and the next read loads fresh counters
+        cache.computeIfPresent(userId, (id, cached) -> {
+            if (cached.getVersion() != newVersion - 1 || !cached.getDay().equals(LocalDate.now())) {
+                return null;
+            }
+            Counts counts = cached;
+            for (TaskState state : before) {
+                counts = counts.plusTask(state.status(), state.dueDate(), -1);
+            }
+            for (TaskState state : after) {
+                counts = counts.plusTask(state.status(), state.dueDate(), 1);
+            }
+            return counts.withVersion(newVersion);
+        });
+    }
+
+    /**
+     * Drop the cached counters of one user, used after bulk changes (archiving)
+     * and writes whose previous state is not known
+     */
+    public void evictUser(Long userId) {
+        if (userId != null) {
+            cache.remove(userId);
+        }
+    }
+
+    // ==========================================================
+    // COUNTERS SNAPSHOT
+    // ==========================================================
+
+    public static final class Counts {
+        private final LocalDate day;
+        private final long version;
+        private final long pending;
+        private final long inProgress;
+        private final long done;
+        private final long overdue;
+        private final long dueToday;
+        private final long upcoming;
+        private final long total;
+
+        private Counts(LocalDate day, long version, long pending, long inProgress, long done,
+                       long overdue, long dueToday, long upcoming, long total) {
+            this.day = day;
+            this.version = version;
+            this.pending = pending;
+            this.inProgress = inProgress;
+            this.done = done;
+            this.overdue = overdue;
+            this.dueToday = dueToday;
+            this.upcoming = upcoming;
+            this.total = total;
+        }
+
+        static Counts empty(LocalDate day, long version) {
+            return new Counts(day, version, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        Counts withVersion(long newVersion) {
+            return new Counts(day, newVersion, pending, inProgress, done, overdue, dueToday, upcoming, total);
+        }
+
+        Counts plusStatus(TaskStatus status, long n) {
+            return new Counts(day, version,
+                    pending + (status == TaskStatus.PENDING ? n : 0),
+                    inProgress + (status == TaskStatus.IN_PROGRESS ? n : 0),
+                    done + (status == TaskStatus.DONE ? n : 0),
+                    overdue, dueToday, upcoming,
+                    total + n);
+        }
+
+        Counts plusDueDates(long overdueN, long dueTodayN, long upcomingN) {
+            return new Counts(day, version, pending, inProgress, done,
+                    overdue + overdueN, dueToday + dueTodayN, upcoming + upcomingN, total);
+        }
+
+        // Same bucket rules as TaskRepository#countByUserGroupedByStatus
+        Counts plusTask(TaskStatus status, LocalDate dueDate, int sign) {
+            Counts counts = plusStatus(status, sign);
+            if (dueDate == null) {
+                return counts;
+            }
+            boolean open = status != TaskStatus.DONE;
+            return counts.plusDueDates(
+                    dueDate.isBefore(day) && open ? sign : 0,
+                    dueDate.isEqual(day) ? sign : 0,
+                    dueDate.isAfter(day) && open ? sign : 0);
+        }
+
+        public long getCount(TaskStatus status) {
+            switch (status) {
+                case PENDING: return pending;
+                case IN_PROGRESS: return inProgress;
+                default: return done;
+            }
+        }
+
+        public LocalDate getDay() { return day; }
+        public long getVersion() { return version; }
+        public long getPending() { return pending; }
+        public long getInProgress() { return inProgress; }
+        public long getDone() { return done; }
+        public long getOverdue() { return overdue; }
+        public long getDueToday() { return dueToday; }
+        public long getUpcoming() { return upcoming; }
+        public long getTotal() { return total; }
+    }
+}
@@ -0,0 +1,57 @@
+-- ==========================================================
+-- Initial schema for users and tasks
+-- Column types match what Hibernate generated under ddl-auto,
+-- so existing databases are adopted through baseline-on-migrate.
+-- ==========================================================
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    full_name   VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    enabled     BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id            BIGINT        NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000),
+    due_date      DATE,
+    status        VARCHAR(255)  NOT NULL,
+    priority      VARCHAR(255),
+    created_at    DATETIME(6),
+    completed_at  DATETIME(6),
+    user_id       BIGINT,
+    PRIMARY KEY (id)
+);
+
+-- ========== PER-USER INDEXES ==========
+
+-- countByUserAndStatus, findByUserAndStatus, grouped header stats (covers overdue via due_date)
+CREATE INDEX idx_tasks_user_status_due ON tasks (user_id, status, due_date);
+
+-- Overdue / today / upcoming windows, calendar range, sort by dueDate
+CREATE INDEX idx_tasks_user_due_date ON tasks (user_id, due_date);
+
+-- findByUserAndPriority, sort by priority
+CREATE INDEX idx_tasks_user_priority ON tasks (user_id, priority);
+
+-- Recent tasks, default /tasks sort by createdAt
+CREATE INDEX idx_tasks_user_created_at ON tasks (user_id, created_at);
+
+-- Sort by title
+CREATE INDEX idx_tasks_user_title ON tasks (user_id, title);
+
+-- ========== GLOBAL INDEXES (unscoped REST endpoints) ==========
+
+CREATE INDEX idx_tasks_status ON tasks (status);
+CREATE INDEX idx_tasks_priority ON tasks (priority);
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+
+-- Added after the indexes so the foreign key reuses a (user_id, ...) index
+-- instead of getting a separate single-column one
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES users (id);
@@ -0,0 +1,15 @@
+-- ==========================================================
+-- Table-based id generator for tasks (pooled-lo, blocks of 50).
+-- IDENTITY forces Hibernate to insert rows one at a time to read back
+-- the key; with pre-allocated ids inserts can be sent as JDBC batches.
+-- next_val holds the first id of the next free block.
+-- ==========================================================
+
+CREATE TABLE id_sequences (
+    sequence_name  VARCHAR(255) NOT NULL,
+    next_val       BIGINT       NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'tasks', COALESCE(MAX(id), 0) + 1 FROM tasks;
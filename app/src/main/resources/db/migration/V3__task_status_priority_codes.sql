@@ -0,0 +1,37 @@
+-- ==========================================================
+-- Store status and priority as one-byte codes (TaskStatus / TaskPriority).
+-- Priority codes are ranks (LOW 1, MEDIUM 2, HIGH 3), so ORDER BY priority
+-- sorts by urgency off the index instead of alphabetically.
+-- Unknown legacy statuses become PENDING, unknown priorities NULL.
+-- ==========================================================
+
+ALTER TABLE tasks ADD COLUMN status_code TINYINT NOT NULL DEFAULT 1;
+ALTER TABLE tasks ADD COLUMN priority_code TINYINT;
+
+UPDATE tasks SET
+    status_code = CASE UPPER(TRIM(status))
+        WHEN 'PENDING' THEN 1
+        WHEN 'IN_PROGRESS' THEN 2
+        WHEN 'DONE' THEN 3
+        ELSE 1 END,
+    priority_code = CASE UPPER(TRIM(priority))
+        WHEN 'LOW' THEN 1
+        WHEN 'MEDIUM' THEN 2
+        WHEN 'HIGH' THEN 3
+        ELSE NULL END;
+
+-- Indexes over the old columns are rebuilt on the code columns
+DROP INDEX idx_tasks_user_status_due ON tasks;
+DROP INDEX idx_tasks_user_priority ON tasks;
+DROP INDEX idx_tasks_status ON tasks;
+DROP INDEX idx_tasks_priority ON tasks;
+
+ALTER TABLE tasks DROP COLUMN status;
+ALTER TABLE tasks DROP COLUMN priority;
+ALTER TABLE tasks RENAME COLUMN status_code TO status;
+ALTER TABLE tasks RENAME COLUMN priority_code TO priority;
+
+CREATE INDEX idx_tasks_user_status_due ON tasks (user_id, status, due_date);
+CREATE INDEX idx_tasks_user_priority ON tasks (user_id, priority);
+CREATE INDEX idx_tasks_status ON tasks (status);
+CREATE INDEX idx_tasks_priority ON tasks (priority);
@@ -0,0 +1,21 @@
+-- ==========================================================
+-- Change tracking for conditional GETs (ETag / Last-Modified).
+-- updated_at is the last write to a task row; existing rows take
+-- their completion or creation time.
+-- task_versions holds one counter per task owner, bumped in the
+-- same transaction as every task write. owner_id 0 counts tasks
+-- without an owner, so the sum over all rows is a global version.
+-- ==========================================================
+
+ALTER TABLE tasks ADD COLUMN updated_at DATETIME(6);
+
+UPDATE tasks SET updated_at = COALESCE(completed_at, created_at, CURRENT_TIMESTAMP(6));
+
+ALTER TABLE tasks MODIFY COLUMN updated_at DATETIME(6) NOT NULL;
+
+-- No foreign key: rows outlive their user so versions never go backwards
+CREATE TABLE task_versions (
+    owner_id  BIGINT NOT NULL,
+    version   BIGINT NOT NULL,
+    PRIMARY KEY (owner_id)
+);
@@ -0,0 +1,32 @@
+-- ==========================================================
+-- Archive tier for completed tasks.
+-- TaskArchiver moves DONE tasks whose completed_at is older than
+-- app.archive.min-age out of tasks in small batches, so the hot
+-- table and its per-user indexes only hold live rows. Reports and
+-- history read both tables.
+-- Rows keep their task id; archived_at records the move.
+-- ==========================================================
+
+CREATE TABLE tasks_archive (
+    id            BIGINT        NOT NULL,
+    title         VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000),
+    due_date      DATE,
+    status        TINYINT       NOT NULL,
+    priority      TINYINT,
+    created_at    DATETIME(6),
+    completed_at  DATETIME(6),
+    updated_at    DATETIME(6)   NOT NULL,
+    archived_at   DATETIME(6)   NOT NULL,
+    user_id       BIGINT,
+    PRIMARY KEY (id)
+);
+
+-- History (newest completion first) and report totals per user
+CREATE INDEX idx_tasks_archive_user_completed ON tasks_archive (user_id, completed_at);
+
+ALTER TABLE tasks_archive ADD CONSTRAINT fk_tasks_archive_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+-- Archiver scan: DONE tasks by completion time (also serves status-only lookups)
+CREATE INDEX idx_tasks_status_completed ON tasks (status, completed_at);
+DROP INDEX idx_tasks_status ON tasks;
@@ -0,0 +1,36 @@
+-- ==========================================================
+-- Reporting rollups, kept current by TaskRollups on every task
+-- write and rebuilt from tasks + tasks_archive by TaskRollupBackfill
+-- (which fills them on first start, since this migration leaves
+-- them empty).
+--
+-- task_daily_rollups: per user, day and priority, how many tasks
+-- were created and how many were completed that day.
+-- task_latency_rollups: per user, completed tasks by time from
+-- creation to completion (bucket codes in TaskRollups.LatencyBucket).
+-- Priority 0 stands for tasks without a priority.
+-- ==========================================================
+
+-- Rollups key on created_at / completed_at, so make them reliable:
+-- every task has a creation time, and completed_at is set exactly for DONE tasks
+UPDATE tasks SET created_at = updated_at WHERE created_at IS NULL;
+UPDATE tasks SET completed_at = updated_at WHERE status = 3 AND completed_at IS NULL;
+UPDATE tasks SET completed_at = NULL WHERE status <> 3 AND completed_at IS NOT NULL;
+UPDATE tasks_archive SET created_at = updated_at WHERE created_at IS NULL;
+
+-- No foreign keys: like task_versions, rollups are derived data keyed by user id
+CREATE TABLE task_daily_rollups (
+    user_id          BIGINT   NOT NULL,
+    rollup_day       DATE     NOT NULL,
+    priority         TINYINT  NOT NULL,
+    created_count    INT      NOT NULL,
+    completed_count  INT      NOT NULL,
+    PRIMARY KEY (user_id, rollup_day, priority)
+);
+
+CREATE TABLE task_latency_rollups (
+    user_id     BIGINT   NOT NULL,
+    bucket      TINYINT  NOT NULL,
+    task_count  INT      NOT NULL,
+    PRIMARY KEY (user_id, bucket)
+);
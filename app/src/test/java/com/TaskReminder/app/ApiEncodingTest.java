@@ -0,0 +1,133 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Task lists negotiate CBOR/Smile and gzip; each representation keeps its own
+ * strong ETag that still revalidates to 304, and only for the format the
+ * request would be served in.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiEncodingTest {
+
+    private static final String EMAIL = "encoding@test.com";
+    private static final String PAGE = "/api/tasks/page?size=50";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @BeforeAll
+    void seed() {
+        User user = userService.registerUser("Encoding User", EMAIL, "secret");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            tasks.add(new Task("Encoding task " + i, "Description " + i, LocalDate.now().plusDays(i), "PENDING", "MEDIUM"));
+        }
+        taskService.createTasks(tasks, user);
+    }
+
+    @Test
+    void cborIsSmallerThanJsonAndDecodes() throws Exception {
+        MockHttpServletResponse json = mockMvc.perform(get(PAGE).with(user(EMAIL)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse cbor = mockMvc.perform(get(PAGE).with(user(EMAIL)).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn().getResponse();
+
+        JsonNode page = new CBORMapper().readTree(cbor.getContentAsByteArray());
+        assertThat(page.get("content")).hasSize(50);
+        assertThat(cbor.getContentAsByteArray().length).isLessThan(json.getContentAsByteArray().length);
+        assertThat(cbor.getHeader(HttpHeaders.ETAG)).endsWith("-cbor\"").isNotEqualTo(json.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void largeBodiesAreGzippedAndRevalidate() throws Exception {
+        MockHttpServletResponse gzipped = mockMvc.perform(get(PAGE).with(user(EMAIL))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+        String etag = gzipped.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes())).startsWith("{\"content\":[");
+        }
+
+        mockMvc.perform(get(PAGE).with(user(EMAIL))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, endsWith(HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)));
+    }
+
+    @Test
+    void tagOnlyRevalidatesTheNegotiatedFormat() throws Exception {
+        String cborTag = mockMvc.perform(get(PAGE).with(user(EMAIL)).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PAGE).with(user(EMAIL)).accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, cborTag))
+                .andExpect(header().string(HttpHeaders.VARY, endsWith(HttpHeaders.ACCEPT)));
+
+        // JSON is preferred here, so the CBOR copy the client holds is not what it would get
+        mockMvc.perform(get(PAGE).with(user(EMAIL))
+                        .header(HttpHeaders.ACCEPT, "application/json, application/cbor;q=0.5")
+                        .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockMvc.perform(get(PAGE).with(user(EMAIL))
+                        .header(HttpHeaders.ACCEPT, "APPLICATION/CBOR")
+                        .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void smallBodiesStayUncompressed() throws Exception {
+        mockMvc.perform(get("/api/tasks/page?size=1").with(user(EMAIL))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+}
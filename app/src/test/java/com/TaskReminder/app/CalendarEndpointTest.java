@@ -0,0 +1,110 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/tasks/calendar returns the caller's tasks due in [start, end), accepts
+ * FullCalendar's ISO dates and date-times, and answers 304 while the caller's
+ * task version is unchanged.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CalendarEndpointTest {
+
+    private static final String EMAIL = "calendar@test.com";
+    private static final String CALENDAR = "/api/tasks/calendar";
+    private static final LocalDate MONTH = LocalDate.of(2030, 3, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        user = userService.registerUser("Calendar User", EMAIL, "secret");
+        taskService.saveTask(new Task("Before window", "", MONTH.minusDays(1), "PENDING", "LOW"), user);
+        taskService.saveTask(new Task("First day", "", MONTH, "PENDING", "HIGH"), user);
+        taskService.saveTask(new Task("Mid month", "", MONTH.plusDays(14), "DONE", "MEDIUM"), user);
+        taskService.saveTask(new Task("Last day", "", MONTH.plusMonths(1).minusDays(1), "PENDING", "LOW"), user);
+        taskService.saveTask(new Task("End day", "", MONTH.plusMonths(1), "PENDING", "LOW"), user);
+
+        User other = userService.registerUser("Calendar Other", "calendar-other@test.com", "secret");
+        taskService.saveTask(new Task("Someone else's", "", MONTH.plusDays(9), "PENDING", "LOW"), other);
+    }
+
+    @Test
+    void returnsCallerTasksInAWindowWithExclusiveEnd() throws Exception {
+        mockMvc.perform(get(CALENDAR).with(user(EMAIL))
+                        .param("start", MONTH.toString())
+                        .param("end", MONTH.plusMonths(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("First day", "Mid month", "Last day")))
+                .andExpect(jsonPath("$[?(@.title == 'First day')].start").value("2030-03-01"))
+                .andExpect(jsonPath("$[?(@.title == 'First day')].color").value("#dc3545"));
+    }
+
+    @Test
+    void acceptsIsoDateTimes() throws Exception {
+        mockMvc.perform(get(CALENDAR).with(user(EMAIL))
+                        .param("start", "2030-03-01T00:00:00+05:30")
+                        .param("end", "2030-04-01T00:00:00+05:30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("First day", "Mid month", "Last day")));
+    }
+
+    @Test
+    void rejectsMalformedDates() throws Exception {
+        mockMvc.perform(get(CALENDAR).with(user(EMAIL)).param("start", "March 2030"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(CALENDAR).with(user(EMAIL)).param("start", MONTH.toString()).param("end", "2030-13-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unchangedCalendarIsAnswered304() throws Exception {
+        String etag = "\"cal-" + user.getId() + "-" + taskService.getTaskVersion(user) + "\"";
+        mockMvc.perform(get(CALENDAR).with(user(EMAIL)).param("start", MONTH.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mockMvc.perform(get(CALENDAR).with(user(EMAIL)).param("start", MONTH.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Another user's tag never matches
+        mockMvc.perform(get(CALENDAR).with(user("calendar-other@test.com")).param("start", MONTH.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Someone else's")));
+    }
+}
@@ -0,0 +1,221 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.repository.RecordingStatementInspector;
+import com.TaskReminder.app.service.TaskRollupBackfill;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Latency and SQL statement regression suite over a seeded dataset.
+ *
+ * Seeds {@code perf.users} x {@code perf.tasksPerUser} tasks (default 1,000 x 100)
+ * into a private H2 database, drives each endpoint through MockMvc as random users,
+ * and compares p50/p99 latency and the worst per-request statement count with
+ * src/test/resources/perf-baselines.properties. Latencies may exceed the baseline
+ * by {@code perf.tolerance} (default 50%); statement counts may not grow at all.
+ *
+ * Run with {@code mvn test -Pperf}; for 1M tasks add -Dperf.users=10000.
+ * {@code -Dperf.updateBaselines=true} writes fresh numbers to target/perf-baselines.properties.
+ */
+@Tag("perf")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf_db;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.TaskReminder.app.repository.RecordingStatementInspector",
+        "app.reminders.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointLatencyRegressionTest {
+
+    private static final int USERS = Integer.getInteger("perf.users", 1000);
+    private static final int TASKS_PER_USER = Integer.getInteger("perf.tasksPerUser", 100);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("perf.warmup", 100);
+    private static final int REQUESTS = Integer.getInteger("perf.requests", 300);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("perf.tolerance", "0.5"));
+    private static final boolean UPDATE_BASELINES = Boolean.getBoolean("perf.updateBaselines");
+
+    // Absolute slack so sub-millisecond baselines do not fail on timer noise
+    private static final double LATENCY_SLACK_MS = 2.0;
+    private static final int INSERT_BATCH = 5000;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskRollupBackfill taskRollupBackfill;
+
+    private final List<String> emails = new ArrayList<>();
+    private final Properties measured = new Properties();
+
+    @BeforeAll
+    void seed() {
+        String password = passwordEncoder.encode("secret");
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            String email = "perf-" + u + "@perf.test";
+            emails.add(email);
+            users.add(new Object[]{"Perf User " + u, email, password, "USER", Timestamp.valueOf(LocalDateTime.now()), true});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (full_name, email, password, role, created_at, enabled) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", users);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'perf-%' ORDER BY id", Long.class);
+
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDate today = LocalDate.now();
+        long nextId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM tasks", Long.class);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (Long userId : userIds) {
+            for (int t = 0; t < TASKS_PER_USER; t++) {
+                TaskStatus status = STATUSES[random.nextInt(STATUSES.length)];
+                Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(0, 100_000)));
+                batch.add(new Object[]{nextId++, "Task " + t + " for user " + userId, "Seeded",
+                        Date.valueOf(today.plusDays(random.nextInt(-60, 60))), status.getCode(),
+                        PRIORITIES[random.nextInt(PRIORITIES.length)].getCode(),
+                        createdAt,
+                        status == TaskStatus.DONE ? Timestamp.valueOf(LocalDateTime.now()) : null,
+                        createdAt,
+                        userId});
+                if (batch.size() == INSERT_BATCH) {
+                    insertTasks(batch);
+                }
+            }
+        }
+        insertTasks(batch);
+        jdbcTemplate.update("UPDATE id_sequences SET next_val = ? WHERE sequence_name = 'tasks'", nextId);
+        // Rows went in behind the service, so build the report rollups the way a first start would
+        taskRollupBackfill.backfillAll();
+    }
+
+    private void insertTasks(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, description, due_date, status, priority, "
+                + "created_at, completed_at, updated_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "/tasks",
+            "/tasks/overdue",
+            "/dashboard",
+            "/reports",
+            "/api/reports",
+            "/api/tasks/calendar",
+            "/api/tasks/page"
+    })
+    void endpointStaysWithinBaseline(String endpoint) throws Exception {
+        String path = "/api/tasks/calendar".equals(endpoint)
+                ? endpoint + "?start=" + LocalDate.now().withDayOfMonth(1) + "&end=" + LocalDate.now().withDayOfMonth(1).plusMonths(1)
+                : endpoint;
+        SplittableRandom random = new SplittableRandom(endpoint.hashCode());
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            call(path, emails.get(random.nextInt(emails.size())));
+        }
+
+        long[] latencies = new long[REQUESTS];
+        int maxStatements = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            String email = emails.get(random.nextInt(emails.size()));
+            RecordingStatementInspector.drain();
+            long start = System.nanoTime();
+            call(path, email);
+            latencies[i] = System.nanoTime() - start;
+            maxStatements = Math.max(maxStatements, RecordingStatementInspector.drain().size());
+        }
+        Arrays.sort(latencies);
+        double p50 = percentile(latencies, 50);
+        double p99 = percentile(latencies, 99);
+        System.out.printf("%-22s p50 %7.2f ms   p99 %7.2f ms   statements/request <= %d%n", endpoint, p50, p99, maxStatements);
+
+        String key = endpoint.replaceAll("^/", "").replace('/', '.');
+        record(key, p50, p99, maxStatements);
+        if (UPDATE_BASELINES) {
+            return;
+        }
+
+        Properties baselines = loadBaselines();
+        assertThat(baselines.getProperty(key + ".p50Ms")).as("baseline for " + key).isNotNull();
+        assertThat(p50).as(endpoint + " p50 ms")
+                .isLessThanOrEqualTo(allowed(Double.parseDouble(baselines.getProperty(key + ".p50Ms"))));
+        assertThat(p99).as(endpoint + " p99 ms")
+                .isLessThanOrEqualTo(allowed(Double.parseDouble(baselines.getProperty(key + ".p99Ms"))));
+        assertThat(maxStatements).as(endpoint + " SQL statements per request")
+                .isLessThanOrEqualTo(Integer.parseInt(baselines.getProperty(key + ".statements")));
+    }
+
+    private void call(String path, String email) throws Exception {
+        mockMvc.perform(get(path).with(user(email))).andExpect(status().isOk());
+    }
+
+    private static double allowed(double baselineMs) {
+        return baselineMs * (1 + TOLERANCE) + LATENCY_SLACK_MS;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private Properties loadBaselines() throws IOException {
+        Properties baselines = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/perf-baselines.properties")) {
+            if (in != null) {
+                baselines.load(in);
+            }
+        }
+        return baselines;
+    }
+
+    private synchronized void record(String key, double p50, double p99, int statements) throws IOException {
+        measured.setProperty(key + ".p50Ms", String.format("%.2f", p50));
+        measured.setProperty(key + ".p99Ms", String.format("%.2f", p99));
+        measured.setProperty(key + ".statements", Integer.toString(statements));
+        Path target = Path.of("target", "perf-baselines.properties");
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            measured.store(out, "Measured with " + USERS + " users x " + TASKS_PER_USER + " tasks");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.TaskReminder.app;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The Prometheus scrape exposes HTTP, repository, Hikari and Hibernate metrics.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusScrapeCoversAllLayers() throws Exception {
+        mockMvc.perform(get("/api/tasks/page")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/tasks/page\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("repository=\"TaskRepository\"")
+                .contains("hikaricp_connections_active{")
+                .contains("pool=\"TaskReminderHikariCP\"")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_cache_query_plan_total");
+    }
+
+    @Test
+    void otherActuatorEndpointsRequireLogin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().is3xxRedirection());
+    }
+}
@@ -0,0 +1,16 @@
+package com.TaskReminder.app;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Load baseline on Tomcat's platform-thread pool.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsLoadBenchmarkTest extends ThreadingLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,110 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.RecordingStatementInspector;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ?fields= selects only the requested columns, in SQL and in the JSON.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.TaskReminder.app.repository.RecordingStatementInspector")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @BeforeAll
+    void seed() {
+        User user = userService.registerUser("Fields User", "fields@test.com", "secret");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            tasks.add(new Task("Fields task " + i, "A long description", LocalDate.now().plusDays(i), "IN_PROGRESS", "LOW"));
+        }
+        taskService.createTasks(tasks, user);
+    }
+
+    @Test
+    void pageReturnsOnlyRequestedFields() throws Exception {
+        RecordingStatementInspector.drain();
+        mockMvc.perform(get("/api/tasks/page").param("fields", "id, title,dueDate").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].title").exists())
+                .andExpect(jsonPath("$.content[0].dueDate").exists())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].status").doesNotExist());
+
+        String select = RecordingStatementInspector.drain().stream()
+                .filter(sql -> sql.contains("due_date"))
+                .findFirst().orElseThrow();
+        assertThat(select).doesNotContain("description").doesNotContain("priority").doesNotContain("user_id");
+    }
+
+    @Test
+    void pageIsASliceUnlessCountIsRequested() throws Exception {
+        RecordingStatementInspector.drain();
+        mockMvc.perform(get("/api/tasks/page").param("fields", "id").param("size", "5").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        assertThat(RecordingStatementInspector.drain()).noneMatch(sql -> sql.contains("count("));
+
+        mockMvc.perform(get("/api/tasks/page").param("fields", "id").param("size", "5").param("page", "1")
+                        .param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.totalElements").isNumber());
+        assertThat(RecordingStatementInspector.drain()).anyMatch(sql -> sql.contains("count("));
+    }
+
+    @Test
+    void statusListReturnsOnlyRequestedFields() throws Exception {
+        mockMvc.perform(get("/api/tasks/status/IN_PROGRESS").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").exists())
+                .andExpect(jsonPath("$[0].id").doesNotExist());
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks/page").param("fields", "id,user"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void withoutFieldsTheFullTaskIsReturned() throws Exception {
+        mockMvc.perform(get("/api/tasks/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description").exists());
+    }
+}
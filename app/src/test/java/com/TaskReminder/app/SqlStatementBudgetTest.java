@@ -0,0 +1,95 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.config.SqlBudgetFilter;
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskChangePipeline;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets per page; a fan-out or N+1 regression fails here first.
+ * Budgets are for a warm user cache and hold regardless of how many tasks the user has.
+ * Conditional GETs read the stored task version first, which counts as one statement;
+ * so do pages showing the header counters, which check their snapshot against it
+ * (once per request, shared with the cached totals).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementBudgetTest {
+
+    private static final String EMAIL = "budget@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @BeforeAll
+    void seed() throws Exception {
+        User user = userService.registerUser("Budget User", EMAIL, "secret");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            tasks.add(new Task("Budget task " + i, "", LocalDate.now().plusDays(i - 30), i % 3 == 0 ? "DONE" : "PENDING", "HIGH"));
+        }
+        taskService.createTasks(tasks, user);
+        // Searches should find the seeded tasks, so let the index catch up first
+        taskChangePipeline.awaitDrained(Duration.ofSeconds(5));
+        // Warm the identity cache so budgets measure the page itself
+        mockMvc.perform(get("/dashboard").with(user(EMAIL)));
+    }
+
+    @ParameterizedTest(name = "{0} <= {1}")
+    @CsvSource({
+            "/dashboard, 3",
+            "/tasks, 2",
+            "/tasks/overdue, 2",
+            "/reports, 2",
+            "/calendar, 1",
+            "/api/tasks/calendar, 2",
+            "/api/reports, 4",
+            "/api/tasks/search?q=budget, 1"
+    })
+    void endpointStaysWithinStatementBudget(String path, int budget) throws Exception {
+        mockMvc.perform(get(path).with(user(EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(SqlBudgetFilter.STATEMENTS_ATTRIBUTE, lessThanOrEqualTo(budget)));
+    }
+
+    @Test
+    void countsOnlyTheStatementsOfThatRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/calendar").with(user(EMAIL)))
+                .andExpect(request().attribute(SqlBudgetFilter.STATEMENTS_ATTRIBUTE, is(2)))
+                .andExpect(request().attribute(SqlBudgetFilter.ELAPSED_MS_ATTRIBUTE, notNullValue()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.config.SqlBudgetFilter;
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Polling with If-None-Match costs one validator read and no entity loads
+ * until a task write moves the version.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskEtagTest {
+
+    private static final String EMAIL = "etag@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User user;
+
+    private Task task;
+
+    @BeforeAll
+    void seed() {
+        user = userService.registerUser("Etag User", EMAIL, "secret");
+        task = taskService.saveTask(new Task("Etag task", "", LocalDate.now(), "PENDING", "HIGH"), user);
+    }
+
+    @Test
+    void unchangedTaskIsAnswered304FromItsValidatorOnly() throws Exception {
+        String path = "/api/tasks/" + task.getId();
+        String etag = mockMvc.perform(get(path).with(user(EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"task-");
+
+        mockMvc.perform(get(path).with(user(EMAIL)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(request().attribute(SqlBudgetFilter.STATEMENTS_ATTRIBUTE, is(1)));
+
+        taskService.markAsDone(task.getId());
+        mockMvc.perform(get(path).with(user(EMAIL)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void listETagChangesOnAnyTaskWrite() throws Exception {
+        String path = "/api/tasks/status/PENDING/page";
+        String etag = mockMvc.perform(get(path).with(user(EMAIL)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // The global version is served from memory until a write
+        mockMvc.perform(get(path).with(user(EMAIL)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(request().attribute(SqlBudgetFilter.STATEMENTS_ATTRIBUTE, is(0)));
+
+        taskService.saveTask(new Task("Another task", "", LocalDate.now(), "PENDING", "LOW"), user);
+        String changed = mockMvc.perform(get(path).with(user(EMAIL)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,123 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/tasks/export streams only the caller's tasks, in id order, as NDJSON
+ * or escaped CSV, optionally limited to a due date range.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskExportTest {
+
+    private static final String EMAIL = "export@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocalDate today = LocalDate.now();
+
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        User user = userService.registerUser("Export User", EMAIL, "secret");
+        tasks.add(taskService.saveTask(new Task("Plain", "Nothing special", today, "PENDING", "LOW"), user));
+        tasks.add(taskService.saveTask(new Task("Pay \"rent\", now", "Line one\nline two", today.plusDays(5), "IN_PROGRESS", "HIGH"), user));
+        tasks.add(taskService.saveTask(new Task("Later", null, today.plusDays(30), "PENDING", "MEDIUM"), user));
+
+        User other = userService.registerUser("Export Other", "export-other@test.com", "secret");
+        taskService.saveTask(new Task("Not mine", "", today, "PENDING", "LOW"), other);
+    }
+
+    @Test
+    void ndjsonHasOneCallerTaskPerLine() throws Exception {
+        String body = export(get("/api/tasks/export"), "application/x-ndjson");
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        List<String> titles = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            titles.add(objectMapper.readTree(line).get("title").asText());
+            ids.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        assertThat(titles).containsExactly("Plain", "Pay \"rent\", now", "Later");
+        assertThat(ids).containsExactly(tasks.get(0).getId(), tasks.get(1).getId(), tasks.get(2).getId());
+    }
+
+    @Test
+    void csvEscapesQuotesCommasAndNewlines() throws Exception {
+        String body = export(get("/api/tasks/export").param("format", "csv"), "text/csv;charset=UTF-8");
+
+        assertThat(body).startsWith("id,title,description,dueDate,status,priority,createdAt,completedAt\n");
+        assertThat(body).contains(tasks.get(0).getId() + ",Plain,Nothing special," + today + ",PENDING,LOW,");
+        assertThat(body).contains(tasks.get(1).getId() + ",\"Pay \"\"rent\"\", now\",\"Line one\nline two\","
+                + today.plusDays(5) + ",IN_PROGRESS,HIGH,");
+        assertThat(body).contains(tasks.get(2).getId() + ",Later,," + today.plusDays(30) + ",PENDING,MEDIUM,");
+        assertThat(body).doesNotContain("Not mine");
+    }
+
+    @Test
+    void dateRangeIsInclusive() throws Exception {
+        String body = export(get("/api/tasks/export").param("format", "csv")
+                .param("from", today.plusDays(5).toString())
+                .param("to", today.plusDays(30).toString()), "text/csv;charset=UTF-8");
+        assertThat(body).doesNotContain(",Plain,").contains("rent").contains(",Later,");
+
+        body = export(get("/api/tasks/export").param("to", today.toString()), "application/x-ndjson");
+        assertThat(body.split("\n")).hasSize(1);
+        assertThat(objectMapper.readTree(body).get("title").asText()).isEqualTo("Plain");
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml").with(user(EMAIL)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(MockHttpServletRequestBuilder builder, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(builder.with(user(EMAIL)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(contentType))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Repeat views of /tasks reuse the rendered rows; an edited task is re-rendered.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskRowCacheTest {
+
+    private static final String EMAIL = "rows@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Task task;
+
+    @BeforeAll
+    void seed() {
+        User user = userService.registerUser("Rows User", EMAIL, "secret");
+        for (int i = 0; i < 5; i++) {
+            task = taskService.saveTask(new Task("Row task " + i, "Row description", LocalDate.now(), "PENDING", "LOW"), user);
+        }
+    }
+
+    @Test
+    void unchangedRowsComeFromCacheAndEditsRerender() throws Exception {
+        String first = tasksPage();
+        double hitsBefore = hits();
+        assertThat(tasksPage()).isEqualTo(first);
+        assertThat(hits() - hitsBefore).isEqualTo(5);
+
+        task.setTitle("Row task renamed");
+        taskService.saveTask(task);
+        String edited = tasksPage();
+        assertThat(edited).contains("Row task renamed").doesNotContain(">Row task 4<");
+        assertThat(edited).contains("/tasks/view/" + task.getId());
+    }
+
+    private String tasksPage() throws Exception {
+        return mockMvc.perform(get("/tasks").with(user(EMAIL)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "task.rows").tag("result", "hit").functionCounter().count();
+    }
+}
@@ -0,0 +1,151 @@
+package com.TaskReminder.app;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.service.TaskService;
+import com.TaskReminder.app.service.UserService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives /tasks, /dashboard and /api/tasks with concurrent clients against a real
+ * server and prints throughput and latency. Subclasses pick the threading mode;
+ * compare their output with {@code mvn test -Pjava21,benchmark} on a Java 21 JDK.
+ */
+@Tag("benchmark")
+abstract class ThreadingLoadBenchmark {
+
+    private static final int CLIENTS = 100;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int TASKS = 200;
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    protected abstract String mode();
+
+    @Test
+    void compareEndpoints() throws Exception {
+        String email = UUID.randomUUID() + "@load.test";
+        User user = userService.registerUser("Load Tester", email, "secret");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task("Load task " + i, "Seeded for the load test", LocalDate.now().plusDays(i % 20), "PENDING", "MEDIUM"));
+        }
+        taskService.createTasks(tasks, user);
+
+        HttpClient client = login(email, "secret");
+        for (String path : List.of("/tasks", "/dashboard", "/api/tasks")) {
+            run(client, path, REQUESTS_PER_CLIENT / 4); // warm-up
+            Result result = run(client, path, REQUESTS_PER_CLIENT);
+            System.out.printf("%-8s %-11s %,8.0f req/s   p50 %6.1f ms   p99 %6.1f ms   errors %d%n",
+                    mode(), path, result.throughput, result.p50, result.p99, result.errors);
+            assertThat(result.errors).isZero();
+        }
+    }
+
+    private Result run(HttpClient client, String path, int requestsPerClient) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).GET().build();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = response.statusCode() == 200 ? System.nanoTime() - sent : -1;
+                    }
+                    return latencies;
+                }));
+            }
+            List<Long> all = new ArrayList<>();
+            int errors = 0;
+            for (Future<long[]> future : futures) {
+                for (long latency : future.get()) {
+                    if (latency < 0) {
+                        errors++;
+                    } else {
+                        all.add(latency);
+                    }
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long[] sorted = all.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Result(CLIENTS * requestsPerClient / seconds, percentile(sorted, 50), percentile(sorted, 99), errors);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    // Form login through the real security filter chain; the session cookie is shared by all clients
+    private HttpClient login(String email, String password) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        String page = client.send(HttpRequest.newBuilder(uri("/auth/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF.matcher(page);
+        assertThat(csrf.find()).isTrue();
+
+        String form = "email=" + encode(email) + "&password=" + encode(password) + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri("/auth/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(response.headers().firstValue("Location")).hasValueSatisfying(
+                location -> assertThat(location).endsWith("/dashboard"));
+        return client;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private record Result(double throughput, double p50, double p99, int errors) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.TaskReminder.app;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Same load with requests on virtual threads and the DB concurrency limiter active.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsLoadBenchmarkTest extends ThreadingLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
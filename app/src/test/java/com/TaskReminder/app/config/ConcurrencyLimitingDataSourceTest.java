@@ -0,0 +1,38 @@
+package com.TaskReminder.app.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Permits bound the number of open connections and come back on close.
+ */
+class ConcurrencyLimitingDataSourceTest {
+
+    private final ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:limiter_test"), 2, 100);
+
+    @Test
+    void blocksBeyondPermitsUntilConnectionClosed() throws Exception {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close(); // a second close must not release a second permit
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        try (Connection third = dataSource.getConnection()) {
+            assertThat(third.isValid(1)).isTrue();
+        }
+        second.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+}
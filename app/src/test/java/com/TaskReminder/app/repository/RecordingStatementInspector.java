@@ -0,0 +1,26 @@
+package com.TaskReminder.app.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Captures every SQL statement Hibernate prepares so tests can inspect it
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public synchronized String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static synchronized List<String> drain() {
+        List<String> captured = new ArrayList<>(STATEMENTS);
+        STATEMENTS.clear();
+        return captured;
+    }
+}
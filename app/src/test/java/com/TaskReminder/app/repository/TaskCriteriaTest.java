@@ -0,0 +1,88 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each TaskCriteria filter narrows the one query; unset filters add nothing.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskCriteriaTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void seed() {
+        // Global counts below must not see rows committed by other test classes (rolled back after each test)
+        taskRepository.deleteAllInBatch();
+        owner = userRepository.save(new User("Owner", "criteria-owner@test.com", "secret", "USER"));
+        User other = userRepository.save(new User("Other", "criteria-other@test.com", "secret", "USER"));
+        save(owner, "Write report", TODAY.minusDays(2), "PENDING", "HIGH");
+        save(owner, "File report", TODAY.minusDays(1), "DONE", "HIGH");
+        save(owner, "Call bank", TODAY.plusDays(3), "IN_PROGRESS", "LOW");
+        save(other, "Other report", TODAY.minusDays(5), "PENDING", "HIGH");
+        taskRepository.flush();
+    }
+
+    @Test
+    void unsetFiltersMatchEverything() {
+        assertThat(taskRepository.count(TaskCriteria.tasks()
+                .ownedBy(null).status(null).priority(null).titleContains(" ").dueBetween(null, null)
+                .toSpecification())).isEqualTo(4);
+    }
+
+    @Test
+    void filtersCombineWithAnd() {
+        List<Task> tasks = taskRepository.findAll(TaskCriteria.tasks()
+                .ownedBy(owner).priority(TaskPriority.HIGH).titleContains("REPORT")
+                .toSpecification());
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactlyInAnyOrder("Write report", "File report");
+    }
+
+    @Test
+    void overdueExcludesDoneAndFutureTasks() {
+        List<Task> tasks = taskRepository.findAll(TaskCriteria.tasks()
+                .ownedBy(owner).overdueAsOf(TODAY).toSpecification());
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("Write report");
+        assertThat(taskRepository.count(TaskCriteria.tasks().overdueAsOf(TODAY).toSpecification())).isEqualTo(2);
+    }
+
+    @Test
+    void dueRangeIsInclusiveAndMayBeOpen() {
+        assertThat(taskRepository.count(TaskCriteria.tasks()
+                .dueBetween(TODAY.minusDays(2), TODAY.plusDays(3)).toSpecification())).isEqualTo(3);
+        assertThat(taskRepository.count(TaskCriteria.tasks()
+                .dueBetween(null, TODAY.minusDays(2)).toSpecification())).isEqualTo(2);
+        assertThat(taskRepository.count(TaskCriteria.tasks()
+                .status(TaskStatus.PENDING).dueBetween(TODAY, null).toSpecification())).isZero();
+    }
+
+    private void save(User user, String title, LocalDate dueDate, String status, String priority) {
+        Task task = new Task(title, null, dueDate, status, priority);
+        task.setUser(user);
+        taskRepository.save(task);
+    }
+}
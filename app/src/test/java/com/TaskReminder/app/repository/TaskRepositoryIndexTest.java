@@ -0,0 +1,148 @@
+package com.TaskReminder.app.repository;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskPriority;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every per-user (and filtered global) TaskRepository query, captures the SQL
+ * Hibernate issues and checks via EXPLAIN that H2 resolves it through an index
+ * instead of a table scan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.TaskReminder.app.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskRepositoryIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        user = userRepository.save(new User("Index Test", "index@test.com", "secret", "USER"));
+        for (int i = 0; i < 50; i++) {
+            Task task = new Task("Task " + i, "Description " + i, TODAY.plusDays(i - 25),
+                    i % 3 == 0 ? "DONE" : "PENDING", i % 2 == 0 ? "HIGH" : "LOW");
+            task.setUser(user);
+            taskRepository.save(task);
+        }
+        taskRepository.flush();
+        RecordingStatementInspector.drain();
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("findByUser", (r, u) -> r.findByUser(u)),
+                query("findByUser(page, createdAt)", (r, u) -> r.findByUser(u, PageRequest.of(0, 10, Sort.by("createdAt"))).getContent()),
+                query("findByUser(page, dueDate)", (r, u) -> r.findByUser(u, PageRequest.of(0, 10, Sort.by("dueDate"))).getContent()),
+                query("findByUser(page, priority)", (r, u) -> r.findByUser(u, PageRequest.of(0, 10, Sort.by("priority"))).getContent()),
+                query("findByUser(page, title)", (r, u) -> r.findByUser(u, PageRequest.of(0, 10, Sort.by("title"))).getContent()),
+                query("findByUserAndStatus", (r, u) -> r.findByUserAndStatus(u, TaskStatus.PENDING)),
+                query("findByUserAndPriority", (r, u) -> r.findByUserAndPriority(u, TaskPriority.HIGH)),
+                query("countByUserAndStatus", (r, u) -> r.countByUserAndStatus(u, TaskStatus.PENDING)),
+                query("countByUser", (r, u) -> r.countByUser(u)),
+                query("countByUserGroupedByStatus", (r, u) -> r.countByUserGroupedByStatus(u, TODAY)),
+                query("getDashboardSummary", (r, u) -> r.getDashboardSummary(u, TODAY)),
+                query("findCalendarEvents", (r, u) -> r.findCalendarEvents(u, TODAY.withDayOfMonth(1), TODAY.withDayOfMonth(1).plusMonths(1))),
+                query("findByUserOrderByCreatedAtDesc", (r, u) -> r.findByUserOrderByCreatedAtDesc(u, PageRequest.of(0, 5))),
+                query("findOverdueTasksByUser", (r, u) -> r.findOverdueTasksByUser(u, TODAY)),
+                query("countOverdueTasksByUser", (r, u) -> r.countOverdueTasksByUser(u, TODAY)),
+                query("findTasksDueTodayByUser", (r, u) -> r.findTasksDueTodayByUser(u, TODAY)),
+                query("findUpcomingTasksByUser", (r, u) -> r.findUpcomingTasksByUser(u, TODAY)),
+                query("criteria(user, status)", (r, u) -> r.findAll(TaskCriteria.tasks().ownedBy(u).status(TaskStatus.PENDING).toSpecification(), PageRequest.of(0, 10)).getContent()),
+                query("criteria(user, priority, ids)", (r, u) -> r.findAll(TaskCriteria.tasks().ownedBy(u).priority(TaskPriority.HIGH).idIn(List.of(1L, 2L, 3L)).toSpecification(), PageRequest.of(0, 10)).getContent()),
+                query("criteria(user, due range)", (r, u) -> r.findAll(TaskCriteria.tasks().ownedBy(u).dueBetween(TODAY, TODAY.plusDays(7)).toSpecification())),
+                query("criteria(overdue)", (r, u) -> r.findAll(TaskCriteria.tasks().overdueAsOf(TODAY).toSpecification(), PageRequest.of(0, 10)).getContent()),
+                query("count(criteria(priority, not done))", (r, u) -> r.count(TaskCriteria.tasks().priority(TaskPriority.HIGH).notDone().toSpecification())),
+                query("findReminderCandidates", (r, u) -> r.findReminderCandidates(TODAY, 0L, PageRequest.of(0, 100))),
+                query("findArchivableForUpdate", (r, u) -> r.findArchivableForUpdate(TODAY.atStartOfDay(), PageRequest.of(0, 100))),
+                query("findHistory", (r, u) -> r.findHistory(u, 20)),
+                query("findHistoryBefore", (r, u) -> r.findHistoryBefore(u, TODAY.atStartOfDay(), 100L, 20)),
+                query("findByStatus", (r, u) -> r.findByStatus(TaskStatus.PENDING)),
+                query("findByPriority", (r, u) -> r.findByPriority(TaskPriority.HIGH)),
+                query("findByDueDate", (r, u) -> r.findByDueDate(TODAY)),
+                query("findByDueDateBetween", (r, u) -> r.findByDueDateBetween(TODAY, TODAY.plusDays(7))),
+                query("countByStatus", (r, u) -> r.countByStatus(TaskStatus.DONE))
+        );
+    }
+
+    private static Arguments query(String name, BiConsumer<TaskRepository, User> call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryPlanUsesIndex(String name, BiConsumer<TaskRepository, User> call) {
+        call.accept(taskRepository, user);
+
+        List<String> selects = RecordingStatementInspector.drain().stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+        assertThat(selects).as("SQL issued by %s", name).isNotEmpty();
+
+        for (String sql : selects) {
+            String plan = explain(sql);
+            // H2 names the access path in a comment: "/* public.<index>: ... */" or "/* public.tasks.tableScan */"
+            assertThat(plan).as("plan for %s:%n%s", name, plan)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    @Test
+    void priorityOrdersByRankNotByName() {
+        List<String> priorities = taskRepository.findByUser(user, PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "priority")))
+                .map(Task::getPriority)
+                .getContent();
+
+        // Alphabetically LOW sorts after HIGH; by rank HIGH comes first
+        assertThat(priorities.get(0)).isEqualTo("HIGH");
+        assertThat(priorities.get(priorities.size() - 1)).isEqualTo("LOW");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query("EXPLAIN " + sql,
+                ps -> {
+                    int params = ps.getParameterMetaData().getParameterCount();
+                    for (int i = 1; i <= params; i++) {
+                        ps.setObject(i, null);
+                    }
+                },
+                rs -> {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                });
+    }
+}
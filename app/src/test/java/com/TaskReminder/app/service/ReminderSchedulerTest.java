@@ -0,0 +1,138 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reminders fire once at their time, and task writes move or drop them. A
+ * reminder left behind for a task that changed meanwhile does not fire.
+ */
+@SpringBootTest
+class ReminderSchedulerTest {
+
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FiredReminders fired;
+
+    private User user;
+
+    @BeforeEach
+    void clearFired() {
+        user = userRepository.save(new User("Reminder Test", UUID.randomUUID() + "@test.com", "secret", "USER"));
+        fired.events.clear();
+    }
+
+    @Test
+    void firesWhenDue() throws InterruptedException {
+        Task task = taskService.saveTask(new Task("Due soon", "", LocalDate.now().plusDays(1), "PENDING", "LOW"), user);
+        drain();
+        long fireAt = System.currentTimeMillis() + 200;
+        reminderScheduler.put(new ReminderScheduler.Reminder(task.getId(), user.getId(), task.getDueDate(), fireAt));
+
+        TaskReminderEvent event = fired.events.poll(5, TimeUnit.SECONDS);
+        assertThat(event).isNotNull();
+        assertThat(event.getTaskId()).isEqualTo(task.getId());
+        assertThat(event.getUserId()).isEqualTo(user.getId());
+        assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(fireAt);
+        assertThat(fired.events.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void cancelledReminderDoesNotFire() throws InterruptedException {
+        reminderScheduler.put(new ReminderScheduler.Reminder(9002L, 7L, LocalDate.now(), System.currentTimeMillis() + 300));
+        reminderScheduler.cancel(9002L);
+
+        assertThat(fired.events.poll(800, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void staleReminderIsRecheckedBeforeFiring() throws InterruptedException {
+        Task deleted = taskService.saveTask(new Task("Gone", "", LocalDate.now().plusDays(1), "PENDING", "LOW"), user);
+        Task done = taskService.saveTask(new Task("Finished", "", LocalDate.now().plusDays(1), "PENDING", "LOW"), user);
+        taskService.deleteTask(deleted.getId());
+        taskService.markAsDone(done.getId());
+        drain();
+
+        // As if the startup load read both rows before the writes were applied
+        long fireAt = System.currentTimeMillis() + 200;
+        reminderScheduler.put(new ReminderScheduler.Reminder(deleted.getId(), user.getId(), deleted.getDueDate(), fireAt));
+        reminderScheduler.put(new ReminderScheduler.Reminder(done.getId(), user.getId(), done.getDueDate(), fireAt));
+
+        assertThat(fired.events.poll(800, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void taskWritesKeepQueueCurrent() throws InterruptedException {
+        drain();
+        int before = reminderScheduler.size();
+
+        Task task = taskService.saveTask(new Task("Call back", "", LocalDate.now().plusDays(3), "PENDING", "HIGH"), user);
+        drain();
+        assertThat(reminderScheduler.size()).isEqualTo(before + 1);
+
+        // Moving the due date replaces the reminder instead of adding a second one
+        task.setDueDate(LocalDate.now().plusDays(5));
+        taskService.saveTask(task);
+        drain();
+        assertThat(reminderScheduler.size()).isEqualTo(before + 1);
+
+        taskService.markAsDone(task.getId());
+        drain();
+        assertThat(reminderScheduler.size()).isEqualTo(before);
+
+        Task other = taskService.saveTask(new Task("Renew", "", LocalDate.now().plusDays(2), "PENDING", "LOW"), user);
+        taskService.deleteTask(other.getId());
+        drain();
+        assertThat(reminderScheduler.size()).isEqualTo(before);
+    }
+
+    // Reminders are updated by the change pipeline after each write commits
+    private void drain() throws InterruptedException {
+        assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        FiredReminders firedReminders() {
+            return new FiredReminders();
+        }
+    }
+
+    static class FiredReminders {
+        final BlockingQueue<TaskReminderEvent> events = new LinkedBlockingQueue<>();
+
+        @EventListener
+        void onReminder(TaskReminderEvent event) {
+            events.add(event);
+        }
+    }
+}
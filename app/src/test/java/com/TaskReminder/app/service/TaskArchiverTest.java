@@ -0,0 +1,126 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.dto.TaskHistoryEntry;
+import com.TaskReminder.app.dto.TaskHistoryWindow;
+import com.TaskReminder.app.dto.TaskReport;
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.TaskStatus;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.ArchivedTaskRepository;
+import com.TaskReminder.app.repository.TaskRepository;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Old completed tasks leave the live table in batches; reports and history
+ * still see them.
+ */
+@SpringBootTest(properties = {"app.archive.batch-size=2", "app.archive.batch-pause=0ms"})
+class TaskArchiverTest {
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskReportService taskReportService;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void movesOldCompletedTasksAndReadsThroughBothTiers() throws InterruptedException {
+        User user = userRepository.save(new User("Archive Test", "archive@test.com", "secret", "USER"));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            save(user, "Archivable " + i, "DONE", now.minusDays(200 + i));
+        }
+        save(user, "Recently done", "DONE", now.minusDays(1));
+        save(user, "Still open", "PENDING", null);
+        long versionBefore = taskService.getTaskVersion(user);
+        assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        assertThat(taskService.searchTasksByUser(user, "archivable", 10)).hasSize(3);
+
+        assertThat(taskArchiver.archiveCompletedBefore(now.minusDays(90))).isEqualTo(3);
+
+        // Live views only see live rows
+        assertThat(taskService.countTasksByUser(user)).isEqualTo(2);
+        assertThat(taskService.getDashboardSummary(user).getDone()).isEqualTo(1);
+        assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        assertThat(taskService.searchTasksByUser(user, "archivable", 10)).isEmpty();
+        assertThat(taskService.getTaskVersion(user)).isGreaterThan(versionBefore);
+
+        // Reports still count the archived tasks
+        TaskReport report = taskReportService.getSummary(user);
+        assertThat(report.getTotal()).isEqualTo(5);
+        assertThat(report.getDone()).isEqualTo(4);
+
+        // History merges both tiers by completion time, even when a live task completed between archived ones
+        save(user, "Completed long ago", "DONE", now.minusDays(200).minusHours(12));
+        TaskHistoryWindow first = taskService.getTaskHistory(user, null, 3);
+        assertThat(first.getContent()).extracting(TaskHistoryEntry::getTitle)
+                .containsExactly("Recently done", "Archivable 0", "Completed long ago");
+        assertThat(first.getContent()).extracting(TaskHistoryEntry::isArchived).containsExactly(false, true, false);
+        assertThat(first.isHasNext()).isTrue();
+
+        TaskHistoryWindow second = taskService.getTaskHistory(user, first.getNextCursor(), 3);
+        assertThat(second.getContent()).extracting(TaskHistoryEntry::getTitle).containsExactly("Archivable 1", "Archivable 2");
+        assertThat(second.isHasNext()).isFalse();
+
+        // Only the late completion is left to move
+        assertThat(taskArchiver.archiveCompletedBefore(now.minusDays(90))).isEqualTo(1);
+        assertThat(taskArchiver.archiveCompletedBefore(now.minusDays(90))).isZero();
+    }
+
+    @Test
+    void copyAndDeleteOnlyMoveTasksThatAreStillArchivable() {
+        User user = userRepository.save(new User("Archive Race", "archive-race@test.com", "secret", "USER"));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(90);
+        // Selected as archivable, then reopened before the move
+        Task reopened = save(user, "Reopened", "DONE", now.minusDays(200));
+        reopened.setStatus("PENDING");
+        taskService.saveTask(reopened);
+        Task recent = save(user, "Recent", "DONE", now.minusDays(1));
+        List<Long> ids = List.of(reopened.getId(), recent.getId());
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            assertThat(archivedTaskRepository.copyFromTasks(ids, TaskStatus.DONE.getCode(), cutoff, now)).isZero();
+            assertThat(taskRepository.deleteArchivable(ids, cutoff)).isZero();
+        });
+        assertThat(taskRepository.findAllById(ids)).hasSize(2);
+        assertThat(archivedTaskRepository.findAllById(ids)).isEmpty();
+    }
+
+    private Task save(User user, String title, String status, LocalDateTime completedAt) {
+        Task task = new Task(title, "Archive description", LocalDate.now().minusDays(300), status, "LOW");
+        task.setCompletedAt(completedAt);
+        return taskService.saveTask(task, user);
+    }
+}
@@ -0,0 +1,90 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput of the batch API against the one-task-per-call path.
+ * Run with {@code mvn test -Pbenchmark}; point the datasource at MySQL for real numbers.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskBatchInsertBenchmarkTest {
+
+    private static final int ROWS = 5000;
+    private static final int WARMUP_ROWS = 500;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void batchInsertBeatsSingleInserts() {
+        User user = userRepository.save(new User("Benchmark User", "benchmark@test.com", "secret", "USER"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        insertOneByOne(user, WARMUP_ROWS);
+        insertInBatches(user, WARMUP_ROWS);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        insertOneByOne(user, ROWS);
+        double singleSeconds = (System.nanoTime() - start) / 1e9;
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        start = System.nanoTime();
+        insertInBatches(user, ROWS);
+        double batchSeconds = (System.nanoTime() - start) / 1e9;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("one-at-a-time: %,.0f rows/s (%d statements)%n", ROWS / singleSeconds, singleStatements);
+        System.out.printf("batch API:     %,.0f rows/s (%d statements)%n", ROWS / batchSeconds, batchStatements);
+
+        // One prepared INSERT per JDBC batch instead of one per row
+        assertThat(batchStatements).isLessThan(singleStatements / 10);
+    }
+
+    private void insertOneByOne(User user, int rows) {
+        for (int i = 0; i < rows; i++) {
+            taskService.saveTask(newTask(i), user);
+        }
+    }
+
+    private void insertInBatches(User user, int rows) {
+        List<Task> chunk = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            chunk.add(newTask(i));
+            if (chunk.size() == TaskService.MAX_BATCH_SIZE) {
+                taskService.createTasks(chunk, user);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            taskService.createTasks(chunk, user);
+        }
+    }
+
+    private static Task newTask(int i) {
+        return new Task("Benchmark task " + i, "Inserted by the batch benchmark", LocalDate.now().plusDays(i % 30), "PENDING", "LOW");
+    }
+}
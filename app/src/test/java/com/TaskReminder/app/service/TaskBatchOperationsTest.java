@@ -0,0 +1,169 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.TaskRepository;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Batch create/update/done/delete only ever touch the caller's tasks.
+ */
+@SpringBootTest
+class TaskBatchOperationsTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserTaskStats userTaskStats;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private User stranger;
+
+    @BeforeEach
+    void users() {
+        owner = userRepository.save(new User("Batch Owner", UUID.randomUUID() + "@test.com", "secret", "USER"));
+        stranger = userRepository.save(new User("Batch Stranger", UUID.randomUUID() + "@test.com", "secret", "USER"));
+    }
+
+    @Test
+    void createsAllTasksForCaller() throws InterruptedException {
+        List<Task> created = taskService.createTasks(newTasks(120), owner);
+
+        assertThat(created).hasSize(120).allSatisfy(task -> assertThat(task.getId()).isNotNull());
+        assertThat(taskService.countTasksByUser(owner)).isEqualTo(120);
+        // The search index catches up off the request thread
+        assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        assertThat(taskService.searchTasksByUser(owner, "batch", 200)).hasSize(120);
+    }
+
+    @Test
+    void updateIsAllOrNothing() {
+        List<Task> created = taskService.createTasks(newTasks(3), owner);
+        Task foreign = taskService.createTasks(newTasks(1), stranger).get(0);
+
+        List<Task> changes = new ArrayList<>();
+        for (Task task : created) {
+            changes.add(change(task.getId(), "Renamed"));
+        }
+        changes.add(change(foreign.getId(), "Hijacked"));
+        assertThatThrownBy(() -> taskService.updateTasks(changes, owner)).isInstanceOf(NoSuchElementException.class);
+        assertThat(taskRepository.findById(foreign.getId()).get().getTitle()).isNotEqualTo("Hijacked");
+
+        changes.remove(changes.size() - 1);
+        taskService.updateTasks(changes, owner);
+        assertThat(taskService.getTasksByUser(owner)).extracting(Task::getTitle).containsOnly("Renamed");
+    }
+
+    @Test
+    void marksDoneAndDeletesOnlyOwnedTasks() {
+        List<Long> ids = ids(taskService.createTasks(newTasks(5), owner));
+        Long foreignId = taskService.createTasks(newTasks(1), stranger).get(0).getId();
+        List<Long> requested = new ArrayList<>(ids);
+        requested.add(foreignId);
+
+        assertThat(taskService.markTasksAsDone(requested, owner)).hasSize(5);
+        assertThat(taskService.countDoneTasksByUser(owner)).isEqualTo(5);
+        assertThat(taskRepository.findById(foreignId).get().getStatus()).isEqualTo("PENDING");
+
+        assertThat(taskService.deleteTasks(requested, owner)).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(taskService.countTasksByUser(owner)).isZero();
+        assertThat(taskRepository.existsById(foreignId)).isTrue();
+    }
+
+    @Test
+    void rolledBackBatchesLeaveCountersAsStored() {
+        List<Long> ids = ids(taskService.createTasks(newTasks(3), owner));
+        assertThat(userTaskStats.getStats(owner).getTotal()).isEqualTo(3);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            taskService.createTasks(newTasks(2), owner);
+            taskService.markTasksAsDone(ids, owner);
+            status.setRollbackOnly();
+        });
+        assertThat(userTaskStats.getStats(owner).getTotal()).isEqualTo(3);
+        assertThat(userTaskStats.getStats(owner).getDone()).isZero();
+
+        transaction.executeWithoutResult(status -> {
+            taskService.deleteTasks(ids, owner);
+            status.setRollbackOnly();
+        });
+        UserTaskStats.Counts counts = userTaskStats.getStats(owner);
+        assertThat(counts.getTotal()).isEqualTo(3).isEqualTo(taskRepository.countByUser(owner));
+        assertThat(counts.getPending()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsInvalidEntriesBeforeWriting() {
+        List<Task> tasks = newTasks(2);
+        tasks.get(1).setTitle(null);
+        assertThatThrownBy(() -> taskService.createTasks(tasks, owner)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(taskService.countTasksByUser(owner)).isZero();
+
+        Task task = taskService.createTasks(newTasks(1), owner).get(0);
+        Task noStatus = change(task.getId(), "No status");
+        noStatus.setTaskStatus(null);
+        assertThatThrownBy(() -> taskService.updateTasks(List.of(noStatus), owner))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.updateTasks(List.of(change(null, "No id")), owner))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.updateTasks(
+                List.of(change(task.getId(), "First"), change(task.getId(), "Second")), owner))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(taskRepository.findById(task.getId()).get().getTitle()).isEqualTo("Batch task 0");
+    }
+
+    @Test
+    void rejectsOversizedBatch() {
+        assertThatThrownBy(() -> taskService.createTasks(newTasks(TaskService.MAX_BATCH_SIZE + 1), owner))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task("Batch task " + i, "Created in bulk", LocalDate.now().plusDays(i % 10), null, "MEDIUM"));
+        }
+        return tasks;
+    }
+
+    private static Task change(Long id, String title) {
+        Task change = new Task(title, "Updated in bulk", LocalDate.now(), "IN_PROGRESS", "HIGH");
+        change.setId(id);
+        return change;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toList());
+    }
+}
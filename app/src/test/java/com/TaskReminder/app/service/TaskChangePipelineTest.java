@@ -0,0 +1,266 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Committed task writes reach every consumer in order, rolled back ones never do,
+ * older versions never overwrite newer ones, failing batches are retried and then
+ * resynced, and the ring neither loses changes nor overruns a slow consumer.
+ */
+@SpringBootTest
+class TaskChangePipelineTest {
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordingConsumer recorder;
+
+    private User user;
+
+    @BeforeEach
+    void reset() throws InterruptedException {
+        user = userRepository.save(new User("Pipeline Test", UUID.randomUUID() + "@test.com", "secret", "USER"));
+        assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        recorder.changes.clear();
+        recorder.failuresLeft.set(0);
+        recorder.resyncs.set(0);
+    }
+
+    @Test
+    void publishesWritesOnlyAfterCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Task task = transaction.execute(status -> {
+            Task saved = taskService.saveTask(new Task("Pipeline", "", LocalDate.now().plusDays(1), "PENDING", "LOW"), user);
+            drain();
+            assertThat(recorder.changes).isEmpty();
+            return saved;
+        });
+        drain();
+        assertThat(recorder.changes).extracting(TaskChange::getType).containsExactly(TaskChange.Type.CREATED);
+        assertThat(recorder.changes.get(0).getTitle()).isEqualTo("Pipeline");
+
+        transaction.executeWithoutResult(status -> {
+            taskService.markAsDone(task.getId());
+            status.setRollbackOnly();
+        });
+        drain();
+        assertThat(recorder.changes).hasSize(1);
+
+        taskService.markAsDone(task.getId());
+        taskService.deleteTask(task.getId());
+        drain();
+        assertThat(recorder.changes).extracting(TaskChange::getType)
+                .containsExactly(TaskChange.Type.CREATED, TaskChange.Type.UPDATED, TaskChange.Type.DELETED);
+    }
+
+    @Test
+    void batchWritesArriveInOrder() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(new Task("Batch " + i, "", LocalDate.now(), "PENDING", "LOW"));
+        }
+        List<Long> ids = taskService.createTasks(tasks, user).stream().map(Task::getId).toList();
+        taskService.deleteTasks(ids, user);
+        drain();
+
+        assertThat(recorder.changes).hasSize(100);
+        assertThat(recorder.changes.subList(0, 50)).extracting(TaskChange::getTaskId).isEqualTo(ids);
+        assertThat(recorder.changes.subList(50, 100)).allMatch(TaskChange::isRemoval);
+    }
+
+    @Test
+    void failedBatchIsRetried() {
+        recorder.failuresLeft.set(1);
+        Task task = taskService.saveTask(new Task("Retried", "", LocalDate.now(), "PENDING", "LOW"), user);
+        drain();
+
+        assertThat(recorder.changes).extracting(TaskChange::getTaskId).containsExactly(task.getId());
+        assertThat(recorder.resyncs).hasValue(0);
+    }
+
+    @Test
+    void batchThatKeepsFailingResyncsTheConsumer() {
+        recorder.failuresLeft.set(3);
+        taskService.saveTask(new Task("Lost", "", LocalDate.now(), "PENDING", "LOW"), user);
+        drain();
+        assertThat(recorder.changes).isEmpty();
+        assertThat(recorder.resyncs).hasValue(1);
+
+        Task task = taskService.saveTask(new Task("After resync", "", LocalDate.now(), "PENDING", "LOW"), user);
+        drain();
+        assertThat(recorder.changes).extracting(TaskChange::getTaskId).containsExactly(task.getId());
+    }
+
+    @Test
+    void olderVersionsOfATaskAreSkipped() {
+        TaskChangePipeline.LatestVersions latest = new TaskChangePipeline.LatestVersions();
+        Task task = task(1L, 1L);
+
+        assertThat(latest.accept(TaskChange.saved(task, true, 5))).isTrue();
+        // Appended after a later commit: dropped
+        assertThat(latest.accept(TaskChange.saved(task, false, 4))).isFalse();
+        // Same transaction: kept in order
+        assertThat(latest.accept(TaskChange.saved(task, false, 5))).isTrue();
+        assertThat(latest.accept(TaskChange.saved(task(2L, 1L), false, 1))).isTrue();
+
+        assertThat(latest.accept(TaskChange.deleted(task, 6))).isTrue();
+        assertThat(latest.accept(TaskChange.saved(task, false, 7))).isFalse();
+    }
+
+    // ==================== RING BUFFER ====================
+
+    @Test
+    void concurrentProducersLoseNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20_000;
+        TaskChangeRingBuffer ring = new TaskChangeRingBuffer(64, 1);
+        AtomicLong sequence = ring.consumerSequence(0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long userId = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    ring.publish(TaskChange.saved(task(i, userId), true, i));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+
+        // Each producer's changes must come out in the order it published them
+        long[] lastSeen = {-1, -1, -1, -1};
+        long read = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (read < (long) producers * perProducer && System.nanoTime() < deadline) {
+            long next = sequence.get() + 1;
+            long available = ring.highestPublished(next, next + 99);
+            for (long s = next; s <= available; s++) {
+                TaskChange change = ring.get(s);
+                int producer = change.getUserId().intValue();
+                assertThat(change.getTaskId()).isEqualTo(lastSeen[producer] + 1);
+                lastSeen[producer] = change.getTaskId();
+                read++;
+            }
+            sequence.set(Math.max(available, sequence.get()));
+        }
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+        assertThat(read).isEqualTo((long) producers * perProducer);
+        assertThat(lastSeen).containsOnly(perProducer - 1);
+    }
+
+    @Test
+    void fullBufferHoldsWritersUntilConsumerMoves() throws InterruptedException {
+        TaskChangeRingBuffer ring = new TaskChangeRingBuffer(4, 1);
+        for (long i = 0; i < 4; i++) {
+            assertThat(ring.publish(TaskChange.saved(task(i, 1L), true, i))).isZero();
+        }
+        assertThat(ring.remainingCapacity()).isZero();
+
+        AtomicLong waited = new AtomicLong(-1);
+        Thread writer = new Thread(() -> waited.set(ring.publish(TaskChange.saved(task(4L, 1L), true, 4L))));
+        writer.start();
+        writer.join(200);
+        assertThat(writer.isAlive()).isTrue();
+
+        // The consumer handles the first change, freeing its slot
+        ring.consumerSequence(0).set(0);
+        writer.join(5000);
+        assertThat(writer.isAlive()).isFalse();
+        assertThat(waited.get()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(ring.get(4).getTaskId()).isEqualTo(4L);
+    }
+
+    private void drain() {
+        try {
+            assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Task task(Long id, Long userId) {
+        User owner = new User();
+        owner.setId(userId);
+        Task task = new Task("Ring " + id, "", LocalDate.now(), "PENDING", "LOW");
+        task.setId(id);
+        task.setUser(owner);
+        return task;
+    }
+
+    // Records every change the pipeline delivers, throwing while failuresLeft is positive
+    static class RecordingConsumer implements TaskChangeConsumer {
+
+        final List<TaskChange> changes = new CopyOnWriteArrayList<>();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+        final AtomicInteger resyncs = new AtomicInteger();
+
+        @Override
+        public String getConsumerName() {
+            return "test-recorder";
+        }
+
+        @Override
+        public void onTaskChanges(List<TaskChange> batch) {
+            if (failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new IllegalStateException("Injected consumer failure");
+            }
+            changes.addAll(batch);
+        }
+
+        @Override
+        public void resync() {
+            resyncs.incrementAndGet();
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        RecordingConsumer recordingConsumer() {
+            return new RecordingConsumer();
+        }
+    }
+}
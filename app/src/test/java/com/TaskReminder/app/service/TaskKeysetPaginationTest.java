@@ -0,0 +1,85 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.dto.TaskWindow;
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.TaskRepository;
+import com.TaskReminder.app.repository.TaskSpecifications;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Scrolling with cursors must visit exactly the rows of the equivalent
+ * ORDER BY, in the same order, including NULL and duplicate sort keys.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskKeysetPaginationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        user = userRepository.save(new User("Keyset Test", "keyset@test.com", "secret", "USER"));
+        String[] priorities = {"LOW", "MEDIUM", "HIGH", null};
+        for (int i = 0; i < 37; i++) {
+            // Repeating titles/dates and some NULL due dates and priorities
+            LocalDate dueDate = i % 5 == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(i % 7);
+            Task task = new Task("Task " + (i % 9), "Description", dueDate, "PENDING", priorities[i % 4]);
+            taskService.saveTask(task, user);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            "createdAt, asc", "createdAt, desc",
+            "dueDate, asc", "dueDate, desc",
+            "priority, asc", "priority, desc",
+            "title, asc", "title, desc"
+    })
+    void scrollingVisitsEveryRowOnceInSortOrder(String sortField, String sortDir) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDir);
+        List<Long> expected = taskRepository.findAll(TaskSpecifications.belongsTo(user),
+                        Sort.by(direction, sortField).and(Sort.by(direction, "id")))
+                .stream().map(Task::getId).toList();
+
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskWindow window = taskService.scrollTasks(user, null, null, null, sortField, sortDir, cursor, 5);
+            window.getContent().forEach(task -> scrolled.add(task.getId()));
+            cursor = window.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(scrolled).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void rejectsEmptyWindow() {
+        assertThatThrownBy(() -> taskService.scrollTasks(user, null, null, null, "createdAt", "desc", null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.dto.TaskReport;
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rollups maintained on each write agree with a rebuild from the task tables,
+ * and reports read them.
+ */
+@SpringBootTest
+class TaskRollupsTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskReportService taskReportService;
+
+    @Autowired
+    private TaskRollupBackfill taskRollupBackfill;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void incrementalRollupsMatchRebuild() {
+        User user = newUser();
+        Task single = taskService.saveTask(new Task("Single", "", LocalDate.now(), "PENDING", "HIGH"), user);
+        List<Task> batch = taskService.createTasks(newTasks(6), user);
+
+        taskService.markAsDone(single.getId());
+        taskService.markTasksAsDone(List.of(batch.get(0).getId(), batch.get(1).getId()), user);
+
+        // Reopen one, change the priority of another
+        Task reopened = taskService.getTaskById(batch.get(0).getId());
+        reopened.setStatus("PENDING");
+        taskService.saveTask(reopened);
+        Task change = taskService.getTaskById(batch.get(2).getId());
+        change.setPriority("HIGH");
+        change.setStatus("DONE");
+        taskService.updateTasks(List.of(change), user);
+
+        taskService.deleteTask(batch.get(3).getId());
+        taskService.deleteTasks(List.of(batch.get(4).getId()), user);
+
+        List<Map<String, Object>> daily = dailyRows(user);
+        List<Map<String, Object>> latency = latencyRows(user);
+        assertThat(daily).isNotEmpty();
+        assertThat(latency).isNotEmpty();
+
+        taskRollupBackfill.rebuild(user.getId());
+
+        assertThat(dailyRows(user)).isEqualTo(daily);
+        assertThat(latencyRows(user)).isEqualTo(latency);
+    }
+
+    @Test
+    void reportReadsTotalsTrendAndLatencyFromRollups() {
+        User user = newUser();
+        List<Task> tasks = taskService.createTasks(newTasks(4), user);
+        taskService.markTasksAsDone(List.of(tasks.get(0).getId()), user);
+
+        TaskReport report = taskReportService.getReport(user, 7);
+
+        assertThat(report.getTotal()).isEqualTo(4);
+        assertThat(report.getDone()).isEqualTo(1);
+        assertThat(report.getPending()).isEqualTo(3);
+        assertThat(report.getCompletionRate()).isEqualTo(25);
+        assertThat(report.getLowPriority()).isEqualTo(4);
+        assertThat(report.getDays()).hasSize(7);
+        TaskReport.DayCounts today = report.getDays().get(6);
+        assertThat(today.getDay()).isEqualTo(LocalDate.now());
+        assertThat(today.getCreated()).isEqualTo(4);
+        assertThat(today.getCompleted()).isEqualTo(1);
+        assertThat(report.getCompletionLatency().get(0).getCount()).isEqualTo(1);
+    }
+
+    private User newUser() {
+        return userRepository.save(new User("Rollup User", UUID.randomUUID() + "@test.com", "secret", "USER"));
+    }
+
+    private static List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task("Rollup " + i, "", LocalDate.now().plusDays(i), "PENDING", "LOW"));
+        }
+        return tasks;
+    }
+
+    private List<Map<String, Object>> dailyRows(User user) {
+        return jdbcTemplate.queryForList("SELECT rollup_day, priority, created_count, completed_count " +
+                "FROM task_daily_rollups WHERE user_id = ? AND (created_count <> 0 OR completed_count <> 0) " +
+                "ORDER BY rollup_day, priority", user.getId());
+    }
+
+    private List<Map<String, Object>> latencyRows(User user) {
+        return jdbcTemplate.queryForList("SELECT bucket, task_count FROM task_latency_rollups " +
+                "WHERE user_id = ? AND task_count <> 0 ORDER BY bucket", user.getId());
+    }
+}
@@ -0,0 +1,143 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.TaskRepository;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The search index matches word prefixes within one user's tasks, follows
+ * committed writes, rebuilds when its document count or stamped task version
+ * is out of sync, and reports when a keyword filter is capped.
+ */
+@SpringBootTest(properties = "app.search.max-keyword-matches=3")
+class TaskSearchIndexTest {
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangePipeline taskChangePipeline;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private User other;
+
+    @BeforeEach
+    void createUsers() {
+        user = userRepository.save(new User("Search Test", UUID.randomUUID() + "@test.com", "secret", "USER"));
+        other = userRepository.save(new User("Search Other", UUID.randomUUID() + "@test.com", "secret", "USER"));
+    }
+
+    @Test
+    void matchesPrefixesWithinOneUser() throws InterruptedException {
+        Task budget = taskService.saveTask(task("Quarterly budget review", "Numbers for finance"), user);
+        Task notes = taskService.saveTask(task("Team notes", "Mention the budget"), user);
+        taskService.saveTask(task("Budget planning", ""), other);
+        drain();
+
+        // Title matches rank above description matches
+        assertThat(taskSearchIndex.search(user.getId(), "budg", 10)).containsExactly(budget.getId(), notes.getId());
+        assertThat(taskSearchIndex.search(user.getId(), "quart fin", 10)).containsExactly(budget.getId());
+        assertThat(taskSearchIndex.search(user.getId(), "budget planning", 10)).isEmpty();
+        assertThat(taskSearchIndex.search(user.getId(), "  ", 10)).isEmpty();
+        assertThat(taskSearchIndex.count(user.getId(), "budget")).isEqualTo(2);
+        assertThat(taskSearchIndex.count(other.getId(), "budget")).isEqualTo(1);
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() throws InterruptedException {
+        Task task = taskService.saveTask(task("Renew passport", ""), user);
+        drain();
+        assertThat(taskSearchIndex.search(user.getId(), "passport", 10)).containsExactly(task.getId());
+
+        task.setTitle("Renew licence");
+        taskService.saveTask(task);
+        drain();
+        assertThat(taskSearchIndex.search(user.getId(), "passport", 10)).isEmpty();
+        assertThat(taskSearchIndex.search(user.getId(), "licen", 10)).containsExactly(task.getId());
+
+        taskService.deleteTask(task.getId());
+        drain();
+        assertThat(taskSearchIndex.search(user.getId(), "licence", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildsWhenDocumentCountDiffers() throws InterruptedException {
+        drain();
+        taskSearchIndex.commitWithTaskVersion();
+        // Saved straight through the repository, so the change never reaches the index
+        Task task = task("Unindexed invoice", "");
+        task.setUser(user);
+        task = taskRepository.save(task);
+        drain();
+        assertThat(taskSearchIndex.search(user.getId(), "invoice", 10)).isEmpty();
+
+        taskSearchIndex.rebuildIfOutOfSync();
+        assertThat(taskSearchIndex.search(user.getId(), "invoice", 10)).containsExactly(task.getId());
+    }
+
+    @Test
+    void rebuildsWhenTaskVersionDiffers() throws InterruptedException {
+        Task task = taskService.saveTask(task("Draft contract", ""), user);
+        drain();
+        taskSearchIndex.commitWithTaskVersion();
+        assertThat(taskSearchIndex.committedTaskVersion()).isEqualTo(taskService.getGlobalTaskVersion());
+
+        // An edit the index missed (as if the process died before applying it): same row count
+        task.setTitle("Signed agreement");
+        taskRepository.save(task);
+        taskSearchIndex.rebuildIfOutOfSync();
+        assertThat(taskSearchIndex.search(user.getId(), "signed", 10)).isEmpty();
+
+        taskVersionTracker.bump(user);
+        taskSearchIndex.rebuildIfOutOfSync();
+        assertThat(taskSearchIndex.search(user.getId(), "signed", 10)).containsExactly(task.getId());
+        // Commits made while running drop the stamp
+        assertThat(taskSearchIndex.committedTaskVersion()).isNull();
+    }
+
+    @Test
+    void reportsCappedKeywordFilters() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            taskService.saveTask(task("Weekly report " + i, ""), user);
+        }
+        taskService.saveTask(task("Monthly report", ""), other);
+        drain();
+
+        assertThat(taskService.getKeywordMatchLimit()).isEqualTo(3);
+        assertThat(taskService.isKeywordFilterCapped(user, "report")).isTrue();
+        assertThat(taskService.countFilteredTasksByUser(user, null, null, "report")).isEqualTo(3);
+        assertThat(taskService.isKeywordFilterCapped(other, "report")).isFalse();
+        assertThat(taskService.isKeywordFilterCapped(user, "")).isFalse();
+    }
+
+    private void drain() throws InterruptedException {
+        assertThat(taskChangePipeline.awaitDrained(Duration.ofSeconds(5))).isTrue();
+    }
+
+    private static Task task(String title, String description) {
+        return new Task(title, description, LocalDate.now().plusDays(1), "PENDING", "LOW");
+    }
+}
@@ -0,0 +1,81 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.RecordingStatementInspector;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Paged views read one extra row instead of running a COUNT, and their totals
+ * are served from cache until the user's tasks change.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.TaskReminder.app.repository.RecordingStatementInspector")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskSliceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        user = userRepository.save(new User("Slice Test", "slice@test.com", "secret", "USER"));
+        for (int i = 0; i < 12; i++) {
+            Task task = new Task("Slice " + i, "Description", LocalDate.now().plusDays(i),
+                    "PENDING", i % 2 == 0 ? "HIGH" : "LOW");
+            taskService.saveTask(task, user);
+        }
+    }
+
+    @Test
+    void sliceReadsOneStatementAndDetectsLastPage() {
+        PageRequest firstPage = PageRequest.of(0, 5, Sort.by("id"));
+        RecordingStatementInspector.drain();
+
+        Slice<Task> first = taskService.getFilteredTaskSliceByUser(user, "PENDING", "HIGH", null, firstPage);
+
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first).isNotInstanceOf(Page.class);
+        List<String> statements = RecordingStatementInspector.drain();
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).toLowerCase()).doesNotContain("count(");
+
+        Slice<Task> last = taskService.getFilteredTaskSliceByUser(user, "PENDING", "HIGH", null, firstPage.next());
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void filteredTotalIsCachedUntilTasksChange() {
+        long before = taskService.countFilteredTasksByUser(user, null, "LOW", null);
+        RecordingStatementInspector.drain();
+
+        // Only the task version is read; the COUNT is not repeated
+        assertThat(taskService.countFilteredTasksByUser(user, null, "LOW", null)).isEqualTo(before);
+        assertThat(RecordingStatementInspector.drain())
+                .noneMatch(sql -> sql.toLowerCase().contains("count("));
+
+        taskService.saveTask(new Task("Slice extra", "Description", LocalDate.now(), "PENDING", "LOW"), user);
+        assertThat(taskService.countFilteredTasksByUser(user, null, "LOW", null)).isEqualTo(before + 1);
+    }
+}
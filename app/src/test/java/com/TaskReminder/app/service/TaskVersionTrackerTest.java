@@ -0,0 +1,81 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.RecordingStatementInspector;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The global version is summed once and served from memory until a write
+ * moves it, including a sum read while that write was still uncommitted.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.TaskReminder.app.repository.RecordingStatementInspector",
+        "app.tasks.global-version-ttl=PT1H"})
+class TaskVersionTrackerTest {
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void globalVersionIsCachedUntilAWrite() {
+        User user = userRepository.save(new User("Version Test", UUID.randomUUID() + "@test.com", "secret", "USER"));
+        long before = taskVersionTracker.globalVersion();
+
+        RecordingStatementInspector.drain();
+        assertThat(taskVersionTracker.globalVersion()).isEqualTo(before);
+        assertThat(RecordingStatementInspector.drain()).isEmpty();
+
+        taskService.saveTask(task(), user);
+        assertThat(taskVersionTracker.globalVersion()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void sumReadBeforeCommitIsNotKept() {
+        User user = userRepository.save(new User("Version Test", UUID.randomUUID() + "@test.com", "secret", "USER"));
+        long before = taskVersionTracker.globalVersion();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.saveTask(task(), user);
+            // Another request reads the sum while the write is still open
+            readOnAnotherThread();
+        });
+
+        assertThat(taskVersionTracker.globalVersion()).isEqualTo(before + 1);
+    }
+
+    private void readOnAnotherThread() {
+        Thread reader = new Thread(taskVersionTracker::globalVersion);
+        reader.start();
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Task task() {
+        return new Task("Versioned", "", LocalDate.now(), "PENDING", "LOW");
+    }
+}
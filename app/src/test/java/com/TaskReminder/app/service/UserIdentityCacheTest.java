@@ -0,0 +1,62 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.RecordingStatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeat principal lookups and logins are served without touching the users table.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.TaskReminder.app.repository.RecordingStatementInspector")
+class UserIdentityCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    void repeatLookupsDoNotQueryUsers() {
+        userService.registerUser("Cached User", "cached@test.com", "secret");
+        RecordingStatementInspector.drain();
+
+        User first = userService.getCurrentUser("cached@test.com");
+        assertThat(RecordingStatementInspector.drain()).hasSize(1);
+
+        User again = userService.getCurrentUser("cached@test.com");
+        UserDetails details = userDetailsService.loadUserByUsername("cached@test.com");
+        assertThat(again.getId()).isEqualTo(first.getId());
+        assertThat(details.getUsername()).isEqualTo("cached@test.com");
+        assertThat(RecordingStatementInspector.drain()).isEmpty();
+    }
+
+    @Test
+    void updateEvictsCachedUser() {
+        userService.registerUser("Renamed User", "renamed@test.com", "secret");
+        User user = userService.getCurrentUser("renamed@test.com");
+
+        user.setFullName("Renamed Again");
+        userService.updateUser(user);
+
+        assertThat(userService.getCurrentUser("renamed@test.com").getFullName()).isEqualTo("Renamed Again");
+    }
+
+    @Test
+    void emailChangeEvictsPreviousEmail() {
+        userService.registerUser("Moving User", "moving@test.com", "secret");
+        User user = userService.getCurrentUser("moving@test.com");
+
+        user.setEmail("moved@test.com");
+        userService.updateUser(user);
+
+        assertThat(userService.findByEmail("moving@test.com")).isEmpty();
+        assertThat(userService.getCurrentUser("moved@test.com").getId()).isEqualTo(user.getId());
+    }
+}
@@ -0,0 +1,93 @@
+package com.TaskReminder.app.service;
+
+import com.TaskReminder.app.entity.Task;
+import com.TaskReminder.app.entity.User;
+import com.TaskReminder.app.repository.RecordingStatementInspector;
+import com.TaskReminder.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Header counters follow committed writes through versioned deltas, and a
+ * snapshot loaded while a write is still being applied is never counted twice.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.TaskReminder.app.repository.RecordingStatementInspector")
+class UserTaskStatsTest {
+
+    @Autowired
+    private UserTaskStats userTaskStats;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(new User("Stats Test", UUID.randomUUID() + "@test.com", "secret", "USER"));
+    }
+
+    @Test
+    void updatesApplyTheirBeforeAfterDelta() {
+        Task task = taskService.saveTask(task("Future", LocalDate.now().plusDays(3)), user);
+        taskService.saveTask(task("Today", LocalDate.now()), user);
+        assertThat(userTaskStats.getStats(user).getUpcoming()).isEqualTo(1);
+
+        task.setDueDate(LocalDate.now().minusDays(1));
+        task.setStatus("IN_PROGRESS");
+        taskService.saveTask(task);
+
+        RecordingStatementInspector.drain();
+        UserTaskStats.Counts counts = userTaskStats.getStats(user);
+        // Served from the adjusted snapshot: only the version lookup, no grouped count
+        assertThat(RecordingStatementInspector.drain()).noneMatch(sql -> sql.contains("group by"));
+        assertThat(counts.getUpcoming()).isZero();
+        assertThat(counts.getOverdue()).isEqualTo(1);
+        assertThat(counts.getDueToday()).isEqualTo(1);
+        assertThat(counts.getInProgress()).isEqualTo(1);
+        assertThat(counts.getPending()).isEqualTo(1);
+        assertThat(counts.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void snapshotLoadedBeforeTheDeltaIsNotCountedTwice() {
+        taskService.saveTask(task("First", LocalDate.now()), user);
+        assertThat(userTaskStats.getStats(user).getTotal()).isEqualTo(1);
+
+        // A read between the commit and the writer's own after-commit delta loads the new state
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    assertThat(userTaskStats.getStats(user).getTotal()).isEqualTo(2);
+                }
+            });
+            taskService.saveTask(task("Second", LocalDate.now()), user);
+        });
+
+        assertThat(userTaskStats.getStats(user).getTotal()).isEqualTo(2);
+        assertThat(userTaskStats.getStats(user).getDueToday()).isEqualTo(2);
+    }
+
+    private static Task task(String title, LocalDate dueDate) {
+        return new Task(title, "", dueDate, "PENDING", "LOW");
+    }
+}
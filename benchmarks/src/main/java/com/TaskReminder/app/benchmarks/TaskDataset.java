@@ -0,0 +1,47 @@
+package com.TaskReminder.app.benchmarks;
+
+import com.TaskReminder.app.entity.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic tasks: mixed statuses and priorities, some missing
+ * due dates and priorities, titles drawn from a small vocabulary so keyword
+ * filters match a realistic fraction of rows.
+ */
+public final class TaskDataset {
+
+    public static final String KEYWORD = "report";
+
+    private static final String[] WORDS = {
+            "report", "invoice", "review", "call", "email", "deploy", "meeting", "design",
+            "budget", "backup", "release", "plan", "fix", "update", "draft", "audit"
+    };
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", null};
+
+    private TaskDataset() {
+    }
+
+    public static List<Task> generate(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + i;
+            LocalDate dueDate = random.nextInt(10) == 0 ? null : today.plusDays(random.nextInt(-180, 180));
+            Task task = new Task(title, "Synthetic task " + i, dueDate,
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            task.setId((long) i + 1);
+            task.setCreatedAt(now.minusMinutes(random.nextInt(0, 525_600)));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,111 @@
+package com.TaskReminder.app.benchmarks;
+
+import com.TaskReminder.app.entity.Task;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding one 10k-task page for each REST representation: CPU per page and
+ * bytes on the wire (the "wireBytes" secondary result).
+ * Mappers are set up like the application's: JSON as Spring Boot configures it,
+ * CBOR/Smile as in ApiEncodingConfig (dates as numbers).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskEncodingBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private ObjectMapper mapper;
+    private List<Task> tasks;
+
+    /**
+     * Size of the last encoded page, reported per iteration
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Wire {
+        public long wireBytes;
+    }
+
+    @State(Scope.Thread)
+    public static class Buffer {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(4 << 20);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = TaskDataset.generate(size);
+        switch (format) {
+            case "json":
+                mapper = new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                break;
+            case "smile":
+                mapper = binaryMapper(new SmileFactory());
+                break;
+            case "cbor":
+                mapper = binaryMapper(new CBORFactory());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+
+    private static ObjectMapper binaryMapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public int encodePage(Buffer buffer, Wire wire) throws IOException {
+        buffer.out.reset();
+        if ("gzip".equals(encoding)) {
+            // Same stream settings as ApiEncodingFilter
+            try (OutputStream gzip = new GZIPOutputStream(buffer.out, 8192, true)) {
+                mapper.writeValue(gzip, tasks);
+            }
+        } else {
+            mapper.writeValue(buffer.out, tasks);
+        }
+        wire.wireBytes = buffer.out.size();
+        return buffer.out.size();
+    }
+}
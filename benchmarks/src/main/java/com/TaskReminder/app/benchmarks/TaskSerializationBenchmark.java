@@ -0,0 +1,66 @@
+package com.TaskReminder.app.benchmarks;
+
+import com.TaskReminder.app.dto.CalendarEvent;
+import com.TaskReminder.app.entity.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of task lists (REST API) and calendar events
+ * (calendar feed), configured like Spring Boot's ObjectMapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<Task> tasks;
+    private List<CalendarEvent> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = TaskDataset.generate(size);
+        events = tasks.stream()
+                .map(task -> new CalendarEvent(task.getId(), task.getTitle(), task.getDueDate(), task.getTaskPriority()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void taskListToJson() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    @Benchmark
+    public void calendarEventsToJson() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), events);
+    }
+}